@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+#
+# Measures startup-to-ready time of the API in two modes:
+#   default  - the repackaged jar with the default profile
+#   fast     - AOT-processed classes, the CDS archive and the prod profile
+#
+# Build first with:  mvn -Pfast-startup package
+# The database environment (DB_URL, DB_USERNAME, DB_PASSWORD, JWT_SECRET)
+# must be set as for a normal start.  Each run is stopped as soon as the
+# application logs its ready time; the median per mode is printed.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$ROOT/target"
+MAIN_CLASS="com.capstone.employeemanagement.EmployeeManagementApiApplication"
+JAR="$(ls "$TARGET"/*.jar | grep -v original | head -n 1)"
+PORT="${BENCHMARK_PORT:-18080}"
+
+for required in "$JAR" "$TARGET/classpath.txt" "$TARGET/application.jsa"; do
+    if [[ ! -e "$required" ]]; then
+        echo "Missing $required; run 'mvn -Pfast-startup package' first" >&2
+        exit 1
+    fi
+done
+
+# Starts one instance, waits for the ready line and prints the milliseconds.
+measure() {
+    local log
+    log="$(mktemp)"
+    "$@" --server.port="$PORT" >"$log" 2>&1 &
+    local pid=$!
+    local ms=""
+    for _ in $(seq 1 600); do
+        ms="$(sed -n 's/.*Startup complete: ready in \([0-9]*\) ms.*/\1/p' "$log")"
+        if [[ -n "$ms" ]] || ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [[ -z "$ms" ]]; then
+        echo "Application did not become ready; log follows" >&2
+        cat "$log" >&2
+        rm -f "$log"
+        exit 1
+    fi
+    rm -f "$log"
+    echo "$ms"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local name="$1"
+    shift
+    local results=()
+    for i in $(seq 1 "$RUNS"); do
+        results+=("$(measure "$@")")
+        echo "  $name run $i: ${results[-1]} ms" >&2
+    done
+    printf '%s\n' "${results[@]}" | median
+}
+
+default_ms="$(run_mode default java -jar "$JAR")"
+fast_ms="$(run_mode fast java \
+    -XX:SharedArchiveFile="$TARGET/application.jsa" \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=prod \
+    -cp "$TARGET/classes:$(cat "$TARGET/classpath.txt")" \
+    "$MAIN_CLASS")"
+
+echo "Median startup-to-ready over $RUNS runs:"
+echo "  default: ${default_ms} ms"
+echo "  fast:    ${fast_ms} ms"
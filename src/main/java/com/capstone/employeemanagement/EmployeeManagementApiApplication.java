@@ -2,14 +2,17 @@ package com.capstone.employeemanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the Employee Management API.  The {@code @SpringBootApplication}
  * annotation triggers component scanning, auto‑configuration and property
  * support. Running this class will start an embedded servlet container and
- * expose the REST endpoints defined throughout the application.
+ * expose the REST endpoints defined throughout the application.  Scheduling
+ * is enabled for background maintenance tasks such as replica lag checks.
  */
 @SpringBootApplication
+@EnableScheduling
 public class EmployeeManagementApiApplication {
 
     public static void main(String[] args) {
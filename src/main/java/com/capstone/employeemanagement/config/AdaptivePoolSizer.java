@@ -0,0 +1,204 @@
+package com.capstone.employeemanagement.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the maximum size of every Hikari pool within configured bounds.
+ * Each interval it takes the mean time borrowers waited for a connection
+ * from the pool's Micrometer timer and, if a connection is idle, times a
+ * few trivial statements on it as a measure of database latency.  The
+ * median of those feeds a moving average, so a single GC pause or network
+ * blip barely moves it:
+ * <ul>
+ *   <li>Average latency well above its recent best for several consecutive
+ *   intervals means the database itself is slowing down; more connections
+ *   would only queue there, so the pool shrinks multiplicatively.</li>
+ *   <li>Otherwise, borrowers waiting longer than the target while others
+ *   queue means the pool is the bottleneck, so it grows by a step.</li>
+ *   <li>A pool that stays mostly idle for several intervals gives back one
+ *   connection at a time.</li>
+ * </ul>
+ * Connection hold times are not used, since long transactions such as bulk
+ * job chunks would read as a slow database.  The probe's own borrow is left
+ * out of the wait statistics.  Hikari applies a lower maximum
+ * by retiring connections as they are returned, and a higher one by opening
+ * connections on demand.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.pool-sizing", name = "enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private static final double BACKOFF_RATIO = 0.8;
+
+    /**
+     * Per interval, the best latency drifts up by this factor, so a baseline
+     * measured while the database was unusually fast expires.
+     */
+    private static final double BASELINE_DRIFT = 1.02;
+
+    private static final int PROBES_PER_INTERVAL = 5;
+
+    /**
+     * Weight of the newest sample in the moving average of latency.
+     */
+    private static final double SMOOTHING = 0.3;
+
+    private final List<PoolState> pools = new ArrayList<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.datasource.pool-sizing.min-size:4}")
+    private int minSize;
+
+    @Value("${app.datasource.pool-sizing.max-size:30}")
+    private int maxSize;
+
+    @Value("${app.datasource.pool-sizing.grow-step:2}")
+    private int growStep;
+
+    @Value("${app.datasource.pool-sizing.target-wait:PT0.005S}")
+    private Duration targetWait;
+
+    @Value("${app.datasource.pool-sizing.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${app.datasource.pool-sizing.idle-intervals:6}")
+    private int idleIntervals;
+
+    @Value("${app.datasource.pool-sizing.slow-intervals:3}")
+    private int slowIntervals;
+
+    public AdaptivePoolSizer(List<HikariDataSource> dataSources, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        dataSources.forEach(dataSource -> pools.add(new PoolState(dataSource)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool-sizing.interval-ms:10000}")
+    public void adjust() {
+        pools.forEach(this::adjust);
+    }
+
+    private void adjust(PoolState pool) {
+        HikariPoolMXBean stats = pool.dataSource.getHikariPoolMXBean();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.name()).timer();
+        if (stats == null || acquire == null) {
+            // pool not started yet, or its metrics are not bound
+            return;
+        }
+        long borrows = Math.max(0, acquire.count() - pool.lastBorrows);
+        double waitNanos = Math.max(0, acquire.totalTime(TimeUnit.NANOSECONDS) - pool.lastWaitNanos);
+        pool.lastBorrows += borrows;
+        pool.lastWaitNanos += waitNanos;
+        double meanWait = borrows > 0 ? waitNanos / borrows : 0;
+        // with no idle connection the probe would queue behind the borrowers
+        long latency = stats.getIdleConnections() > 0 ? probe(pool) : -1;
+        if (latency >= 0) {
+            pool.smoothedLatency = pool.smoothedLatency < 0 ? latency
+                    : SMOOTHING * latency + (1 - SMOOTHING) * pool.smoothedLatency;
+            pool.baselineLatency = Math.min(pool.baselineLatency * BASELINE_DRIFT, pool.smoothedLatency);
+            pool.slowFor = pool.smoothedLatency > pool.baselineLatency * latencyTolerance ? pool.slowFor + 1 : 0;
+        }
+
+        HikariConfigMXBean config = pool.dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        int next = current;
+        String reason = null;
+        if (latency >= 0 && pool.slowFor >= slowIntervals) {
+            next = Math.max(minSize, (int) (current * BACKOFF_RATIO));
+            reason = "database latency rose";
+            pool.idleFor = 0;
+            pool.slowFor = 0;
+        } else if (meanWait > targetWait.toNanos() && stats.getThreadsAwaitingConnection() > 0) {
+            next = Math.min(maxSize, current + growStep);
+            reason = "borrowers waiting";
+            pool.idleFor = 0;
+        } else if (stats.getActiveConnections() * 2 < current) {
+            if (++pool.idleFor >= idleIntervals) {
+                next = Math.max(minSize, current - 1);
+                reason = "mostly idle";
+                pool.idleFor = 0;
+            }
+        } else {
+            pool.idleFor = 0;
+        }
+        if (next != current) {
+            if (config.getMinimumIdle() > next) {
+                config.setMinimumIdle(next);
+            }
+            config.setMaximumPoolSize(next);
+            log.info("Pool {} resized from {} to {} ({}: wait {} us, latency {} us, best {} us)", pool.name(), current,
+                    next, reason, (long) meanWait / 1000, (long) pool.smoothedLatency / 1000,
+                    (long) pool.baselineLatency / 1000);
+            meterRegistry.counter("db.pool.resizes", "pool", pool.name(), "direction", next > current ? "up" : "down")
+                    .increment();
+        }
+    }
+
+    /**
+     * Times a few trivial statements on one of the pool's connections,
+     * excluding the wait for the connection, which is also taken out of the
+     * pool's wait statistics.
+     *
+     * @return the median round trip in nanoseconds, or -1 if it failed
+     */
+    private long probe(PoolState pool) {
+        long borrowStart = System.nanoTime();
+        try (Connection connection = pool.dataSource.getConnection()) {
+            pool.lastBorrows++;
+            pool.lastWaitNanos += System.nanoTime() - borrowStart;
+            long[] samples = new long[PROBES_PER_INTERVAL];
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                for (int i = 0; i < samples.length; i++) {
+                    long start = System.nanoTime();
+                    statement.execute("SELECT 1");
+                    samples[i] = System.nanoTime() - start;
+                }
+            }
+            Arrays.sort(samples);
+            long latency = samples[samples.length / 2];
+            meterRegistry.timer("db.probe.latency", "pool", pool.name()).record(latency, TimeUnit.NANOSECONDS);
+            return latency;
+        } catch (SQLException ex) {
+            log.debug("Latency probe on pool {} failed", pool.name(), ex);
+            return -1;
+        }
+    }
+
+    private static final class PoolState {
+
+        private final HikariDataSource dataSource;
+        private long lastBorrows;
+        private double lastWaitNanos;
+        private double smoothedLatency = -1;
+        private double baselineLatency = Double.MAX_VALUE;
+        private int slowFor;
+        private int idleFor;
+
+        PoolState(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.capstone.employeemanagement.config;
+
+import com.capstone.employeemanagement.security.TenantContext;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.DataFetchingEnvironment;
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ThreadLocalAccessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+
+/**
+ * GraphQL execution limits and context.  Queries nested deeper than
+ * {@code max-depth} or estimated to resolve more than {@code max-complexity}
+ * fields are rejected before any data is fetched.  The estimate counts every
+ * selected field once, except below {@code employees}, whose selection is
+ * counted once per requested row.
+ * <p>
+ * The tenant is registered with the context propagation library, so data
+ * fetchers that run on another thread still query the caller's tenant.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    public GraphQlConfig() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(new ThreadLocalAccessor<String>() {
+            @Override
+            public Object key() {
+                return TenantContext.class.getName();
+            }
+
+            @Override
+            public String getValue() {
+                return TenantContext.getTenantId();
+            }
+
+            @Override
+            public void setValue(String value) {
+                TenantContext.setTenantId(value);
+            }
+
+            @Override
+            public void setValue() {
+                TenantContext.clear();
+            }
+        });
+    }
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${app.graphql.max-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${app.graphql.max-complexity:5000}") int maxComplexity) {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            if ("employees".equals(environment.getField().getName())) {
+                Object size = environment.getArguments().get("size");
+                return 1 + childComplexity * (size instanceof Integer rows ? Math.max(rows, 1) : 20);
+            }
+            return 1 + childComplexity;
+        };
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+
+    /**
+     * Reports invalid arguments as client errors instead of internal ones.
+     */
+    @Bean
+    public DataFetcherExceptionResolver badRequestExceptionResolver() {
+        return new DataFetcherExceptionResolverAdapter() {
+            @Override
+            protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment environment) {
+                if (ex instanceof IllegalArgumentException) {
+                    return GraphqlErrorBuilder.newError(environment)
+                            .errorType(ErrorType.BAD_REQUEST)
+                            .message(ex.getMessage())
+                            .build();
+                }
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.capstone.employeemanagement.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes Hibernate's per-query statistics (executions, rows and execution
+ * time of every JPQL and native query, tagged with the query) next to the
+ * session-wide metrics Spring Boot binds on its own.  Requires Hibernate
+ * statistics, which are switched on by the same property.  Repository
+ * queries are fixed and field selections come from a whitelist, so the
+ * number of tagged series stays bounded.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.generate_statistics", havingValue = "true")
+public class QueryMetricsConfig {
+
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateQueryMetrics(entityManagerFactory.unwrap(SessionFactory.class), "entityManagerFactory",
+                Tags.empty());
+    }
+}
@@ -0,0 +1,110 @@
+package com.capstone.employeemanagement.config;
+
+import com.capstone.employeemanagement.security.TenantContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes connections to the primary database or to a read replica.  Read-only
+ * transactions ({@code @Transactional(readOnly = true)}) are sent to the
+ * replica while it is healthy and within the configured lag; everything else
+ * goes to the primary.  A user whose write committed within the stickiness
+ * window keeps reading from the primary so they always see their own changes.
+ * <p>
+ * The routing decision relies on the transaction's read-only flag, so this
+ * data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * that defers fetching the physical connection until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Lookup keys of the two target data sources.
+     */
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    /**
+     * Upper bound on remembered writers before expired entries are purged.
+     */
+    private static final int STICKINESS_PURGE_THRESHOLD = 10_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickinessNanos;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, Duration stickiness) {
+        this.lagMonitor = lagMonitor;
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit(user);
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable() || wroteRecently(user)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    /**
+     * Registers a callback that records the write time of the given user once
+     * the surrounding read-write transaction commits.
+     */
+    private void rememberWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (lastWriteByUser.size() >= STICKINESS_PURGE_THRESHOLD) {
+                    long now = System.nanoTime();
+                    lastWriteByUser.values().removeIf(writtenAt -> now - writtenAt > stickinessNanos);
+                }
+                lastWriteByUser.put(user, System.nanoTime());
+            }
+        });
+    }
+
+    private boolean wroteRecently(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByUser.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > stickinessNanos) {
+            lastWriteByUser.remove(user, writtenAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The calling user, qualified by tenant since usernames are only unique
+     * within one.
+     */
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return TenantContext.getTenantId() + ":" + authentication.getName();
+    }
+}
@@ -0,0 +1,76 @@
+package com.capstone.employeemanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Periodically measures how far the read replica lags behind the primary.
+ * While the replica is unreachable or its replay lag exceeds the configured
+ * maximum, {@link ReadWriteRoutingDataSource} sends read-only transactions to
+ * the primary instead.  The replica starts out unusable until the first
+ * successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    /**
+     * Replay lag in milliseconds.  A replica that has replayed everything it
+     * received reports zero even when the primary has been idle for a while;
+     * a server that is not in recovery (e.g. a second local instance used for
+     * testing) always reports zero.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+    private volatile long lastLagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            lastLagMillis = lag == null ? 0 : lag.longValue();
+            usable = lastLagMillis <= maxLagMillis;
+        } catch (DataAccessException ex) {
+            lastLagMillis = -1;
+            usable = false;
+            log.debug("Replica lag check failed", ex);
+        }
+        if (usable != replicaUsable) {
+            log.info("Read replica is now {} (lag {} ms)", usable ? "in use" : "bypassed", lastLagMillis);
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Returns the lag measured by the last check in milliseconds, or -1 if the
+     * replica could not be reached.
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+}
@@ -1,7 +1,10 @@
 package com.capstone.employeemanagement.config;
 
 import com.capstone.employeemanagement.security.JwtAuthenticationFilter;
+import com.capstone.employeemanagement.security.RateLimitFilter;
 import com.capstone.employeemanagement.service.UserService;
+import com.capstone.employeemanagement.web.IdempotencyFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +16,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
@@ -29,16 +33,31 @@ public class SecurityConfig {
     private final PasswordEncoder passwordEncoder;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+                                                   RateLimitFilter rateLimitFilter,
+                                                   IdempotencyFilter idempotencyFilter) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // async dispatches of long-lived responses (the employee event
+                        // stream) were already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        // invites name the tenant of a registration, so only its admins issue them
+                        .requestMatchers("/api/auth/invites").hasRole("ADMIN")
                         // allow unauthenticated access to authentication endpoints and swagger
                         .requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // limits are per user where the token identifies one, so they
+                // apply once the JWT has been read
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                // idempotency keys are scoped to the caller, so they are resolved
+                // only for requests that passed authorization
+                .addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
         return http.build();
     }
 
@@ -0,0 +1,46 @@
+package com.capstone.employeemanagement.config;
+
+import com.capstone.employeemanagement.service.NotificationListener;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Startup tuning shared by every profile.  With
+ * {@code spring.main.lazy-initialization} enabled (the {@code prod} profile)
+ * most beans are created on first use, but the database layer stays eager:
+ * a new instance should only report ready once migrations are checked and
+ * Hibernate is bootstrapped, not push that cost onto its first requests.
+ * The notification listener stays eager too, as nothing depends on it and
+ * other instances' cache invalidations must be received from the start.
+ * Beans with {@code @Scheduled} methods are already kept eager by Spring
+ * Boot.  The time to ready is logged so startup benchmarks can read it.
+ */
+@Slf4j
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerDatabaseBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, Flyway.class, FlywayMigrationInitializer.class,
+                EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class, NotificationListener.class);
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        log.info("Startup complete: ready in {} ms since JVM start ({} ms in SpringApplication.run)",
+                sinceJvmStart, event.getTimeTaken().toMillis());
+    }
+}
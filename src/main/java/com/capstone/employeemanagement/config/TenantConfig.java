@@ -0,0 +1,55 @@
+package com.capstone.employeemanagement.config;
+
+import com.capstone.employeemanagement.security.TenantContext;
+import io.micrometer.common.KeyValues;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * Wires the request's tenant into Hibernate and into request metrics.
+ * Entities with a {@code @TenantId} attribute are filtered by the tenant the
+ * resolver returns when a session opens, and new rows are stamped with it,
+ * so repository queries never need an explicit tenant predicate and always
+ * include the partition key.  Native SQL is not filtered and must add the
+ * predicate itself.
+ */
+@Configuration
+public class TenantConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer() {
+        CurrentTenantIdentifierResolver<String> resolver = new CurrentTenantIdentifierResolver<>() {
+            @Override
+            public String resolveCurrentTenantIdentifier() {
+                return TenantContext.getTenantId();
+            }
+
+            @Override
+            public boolean validateExistingCurrentSessions() {
+                return false;
+            }
+        };
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, resolver);
+    }
+
+    /**
+     * Tags HTTP server metrics with the tenant.  Tenants are customers, few
+     * enough to be a low-cardinality tag.
+     */
+    @Bean
+    public DefaultServerRequestObservationConvention tenantServerRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object tenant = context.getCarrier().getAttribute(TenantContext.REQUEST_ATTRIBUTE);
+                return super.getLowCardinalityKeyValues(context)
+                        .and("tenant", tenant != null ? tenant.toString() : TenantContext.DEFAULT_TENANT);
+            }
+        };
+    }
+}
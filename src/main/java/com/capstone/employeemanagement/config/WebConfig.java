@@ -0,0 +1,21 @@
+package com.capstone.employeemanagement.config;
+
+import com.capstone.employeemanagement.web.CachedJsonHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC customisations.  Registers the converter that writes
+ * pre-serialized JSON documents before the default Jackson converter.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CachedJsonHttpMessageConverter());
+    }
+}
@@ -2,23 +2,34 @@ package com.capstone.employeemanagement.controller;
 
 import com.capstone.employeemanagement.dto.AuthenticationRequest;
 import com.capstone.employeemanagement.dto.AuthenticationResponse;
+import com.capstone.employeemanagement.dto.InviteRequest;
+import com.capstone.employeemanagement.dto.InviteResponse;
+import com.capstone.employeemanagement.dto.RefreshTokenRequest;
 import com.capstone.employeemanagement.dto.RegisterRequest;
+import com.capstone.employeemanagement.service.JwtKeyRegistry;
 import com.capstone.employeemanagement.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Exposes authentication endpoints for user registration and login.  The
  * responses include JWT tokens that callers must supply in the `Authorization`
- * header when accessing secured endpoints.
+ * header when accessing secured endpoints, and a refresh token for obtaining
+ * new access tokens once they expire.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -27,18 +38,47 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final UserService userService;
+    private final JwtKeyRegistry jwtKeyRegistry;
 
-    @Operation(summary = "Register a new user", description = "Creates a new user account and returns an access token.")
+    @Operation(summary = "Register a new user", description = "Creates a new user account in the tenant of the invite, or the default tenant without one, and returns an access token.")
     @PostMapping("/register")
     public ResponseEntity<AuthenticationResponse> register(@Valid @RequestBody RegisterRequest request) {
         AuthenticationResponse response = userService.register(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Invite a user", description = "Issues an invite to register in the caller's tenant with the given email.")
+    @PostMapping("/invites")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InviteResponse> invite(@Valid @RequestBody InviteRequest request) {
+        return new ResponseEntity<>(userService.invite(request), HttpStatus.CREATED);
+    }
+
     @Operation(summary = "Authenticate a user", description = "Authenticates an existing user and returns an access token.")
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody AuthenticationRequest request) {
         AuthenticationResponse response = userService.authenticate(request);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Refresh an access token", description = "Exchanges a refresh token for a new access token and a new refresh token.  Each refresh token can be used once.")
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(userService.refresh(request));
+    }
+
+    @Operation(summary = "Log out", description = "Revokes the refresh token and every token rotated from the same login.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        userService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Token verification keys", description = "JSON Web Key Set with the public keys that verify access tokens.  Empty when tokens are signed with a shared secret.")
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyRegistry.getJwks());
+    }
+}
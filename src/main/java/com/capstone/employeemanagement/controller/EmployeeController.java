@@ -1,27 +1,39 @@
 package com.capstone.employeemanagement.controller;
 
+import com.capstone.employeemanagement.dto.CachedJson;
 import com.capstone.employeemanagement.dto.EmployeeRequest;
 import com.capstone.employeemanagement.dto.EmployeeResponse;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.exception.EmployeeNotFoundException;
+import com.capstone.employeemanagement.exception.ErrorResponse;
 import com.capstone.employeemanagement.service.EmployeeService;
+import com.capstone.employeemanagement.service.EmployeeStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/employees")
@@ -29,7 +41,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Employees", description = "Endpoints for managing employee records")
 public class EmployeeController {
 
+    private static final List<String> EMPLOYEE_NOT_FOUND = List.of(EmployeeNotFoundException.MESSAGE);
+
     private final EmployeeService employeeService;
+    private final EmployeeStreamService employeeStreamService;
 
     @Operation(summary = "Create a new employee", description = "Creates a new employee record. Only administrators are allowed to perform this operation.")
     @ApiResponses(value = {
@@ -44,12 +59,13 @@ public class EmployeeController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Get all employees", description = "Returns a paginated list of employees. Accessible to authenticated users.")
+    @Operation(summary = "Get all employees", description = "Returns a paginated list of employees. Accessible to authenticated users. Use 'fields' to receive only selected properties and 'includeTotal=false' to skip counting. Terminated employees are only listed with 'includeArchived=true'.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of employees returned", content = @Content(array = @ArraySchema(schema = @Schema(implementation = EmployeeResponse.class))))
+            @ApiResponse(responseCode = "200", description = "List of employees returned", content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field requested", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<Page<EmployeeResponse>> getAllEmployees(
+    public ResponseEntity<PageResponse<?>> getAllEmployees(
             @Parameter(description = "Page number (0-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size", example = "10")
@@ -57,29 +73,106 @@ public class EmployeeController {
             @Parameter(description = "Sort by field", example = "name")
             @RequestParam(defaultValue = "id") String sortBy,
             @Parameter(description = "Sort direction", example = "asc")
-            @RequestParam(defaultValue = "asc") String direction
+            @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Comma-separated properties to return (id, name, position, department, hireDate, status, terminationDate)", example = "id,name")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Whether to include the total element and page counts", example = "true")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Whether to include terminated employees, which are read from the archive", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived
     ) {
         Sort sort = direction.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<EmployeeResponse> employees = employeeService.getEmployees(pageable);
-        return ResponseEntity.ok(employees);
+        if (fields == null || fields.isBlank()) {
+            return ResponseEntity.ok(employeeService.getEmployees(pageable, includeTotal, includeArchived));
+        }
+        List<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .toList();
+        return ResponseEntity.ok(employeeService.getEmployeeFields(selected, pageable, includeTotal, includeArchived));
+    }
+
+    @Operation(summary = "Stream employee changes", description = "Opens a Server-Sent Events stream of created, updated and deleted employees. Repeated changes to the same employee may be coalesced; a 'resync' event asks the client to reload the list.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEmployees() {
+        return employeeStreamService.subscribe();
     }
 
     @Operation(summary = "Get employee by ID", description = "Retrieves the details of a specific employee.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee found", content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Employee unchanged since the version in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
-        EmployeeResponse response = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getEmployeeById(@PathVariable Long id, HttpServletRequest request) {
+        Optional<CachedJson> response = employeeService.findEmployeeJson(id);
+        if (response.isEmpty()) {
+            // the most common error: answered without throwing
+            return new ResponseEntity<>(ErrorResponse.of(HttpStatus.NOT_FOUND, EMPLOYEE_NOT_FOUND, request.getRequestURI()),
+                    HttpStatus.NOT_FOUND);
+        }
+        // Spring answers If-None-Match with 304 based on this ETag
+        return ResponseEntity.ok()
+                .eTag(id + "-" + response.get().getVersion())
+                .body(response.get());
+    }
+
+    @Operation(summary = "Get direct reports", description = "Returns a page of the employees reporting directly to the given employee.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Direct reports returned", content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+    })
+    @GetMapping("/{id}/reports")
+    public ResponseEntity<PageResponse<EmployeeResponse>> getDirectReports(
+            @PathVariable Long id,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(employeeService.getDirectReports(id, PageRequest.of(page, size, Sort.by("id"))));
+    }
+
+    @Operation(summary = "Get everyone below an employee", description = "Returns a page of the employee's whole reporting subtree, ordered by level and then id. Totals are only counted with 'includeTotal=true'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Subtree returned", content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+    })
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<PageResponse<EmployeeResponse>> getSubtree(
+            @PathVariable Long id,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Whether to include the total element and page counts", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(employeeService.getSubtree(id, PageRequest.of(page, size), includeTotal));
+    }
+
+    @Operation(summary = "Get chain of command", description = "Returns the managers above the employee, from the direct manager to the top of the hierarchy.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chain of command returned"),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+    })
+    @GetMapping("/{id}/chain")
+    public ResponseEntity<List<EmployeeResponse>> getChainOfCommand(@PathVariable Long id) {
+        return ResponseEntity.ok(employeeService.getChainOfCommand(id));
     }
 
     @Operation(summary = "Update an employee", description = "Updates the details of an existing employee. Accessible to both administrators and regular users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employee updated", content = @Content(schema = @Schema(implementation = EmployeeResponse.class))),
-            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid input or manager change", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Employee was modified concurrently or has been terminated", content = @Content)
     })
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
@@ -88,15 +181,21 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Delete an employee", description = "Deletes an employee record. Only administrators are allowed to delete employees.")
+    @Operation(summary = "Terminate an employee", description = "Marks an employee as terminated and moves the record to the archive; it is kept but no longer listed by default. Only administrators are allowed to delete employees.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Employee deleted"),
-            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+            @ApiResponse(responseCode = "204", description = "Employee terminated"),
+            @ApiResponse(responseCode = "400", description = "Invalid termination date", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Employee already terminated", content = @Content)
     })
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
-        employeeService.deleteEmployee(id);
+    public ResponseEntity<Void> deleteEmployee(
+            @PathVariable Long id,
+            @Parameter(description = "Last day of employment (ISO format); defaults to today", example = "2026-06-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate terminationDate
+    ) {
+        employeeService.deleteEmployee(id, terminationDate);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
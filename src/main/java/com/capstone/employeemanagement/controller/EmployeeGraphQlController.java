@@ -0,0 +1,99 @@
+package com.capstone.employeemanagement.controller;
+
+import com.capstone.employeemanagement.dto.DepartmentSummary;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.dto.UserResponse;
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.repository.EmployeeRepositoryCustom;
+import com.capstone.employeemanagement.service.EmployeeGraphService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GraphQL queries over employees, their managers and creators, and
+ * department aggregates.  Nested associations are resolved with
+ * {@link BatchMapping}: for each level of the query the references of all
+ * parent employees are collected and loaded with one {@code IN} query, and
+ * each record is loaded at most once per request.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EmployeeGraphQlController {
+
+    /**
+     * Largest page a single {@code employees} query may request.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final EmployeeGraphService employeeGraphService;
+
+    @QueryMapping
+    public PageResponse<Employee> employees(@Argument int page, @Argument int size, @Argument String sortBy,
+                                            @Argument Sort.Direction direction, @Argument boolean includeArchived) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!EmployeeRepositoryCustom.SELECTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unknown sort field: " + sortBy);
+        }
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        return PageResponse.of(employeeGraphService.getEmployees(pageable, includeArchived));
+    }
+
+    @QueryMapping
+    public Employee employee(@Argument Long id) {
+        return employeeGraphService.findEmployee(id).orElse(null);
+    }
+
+    @QueryMapping
+    public List<DepartmentSummary> departments() {
+        return employeeGraphService.getDepartmentSummaries();
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<Employee, Employee> manager(List<Employee> employees) {
+        Set<Long> ids = new HashSet<>();
+        for (Employee employee : employees) {
+            if (employee.getManager() != null) {
+                ids.add(employee.getManager().getId());
+            }
+        }
+        Map<Long, Employee> managers = ids.isEmpty() ? Map.of() : employeeGraphService.findEmployees(ids);
+        Map<Employee, Employee> result = new HashMap<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            if (employee.getManager() != null) {
+                result.put(employee, managers.get(employee.getManager().getId()));
+            }
+        }
+        return result;
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<Employee, UserResponse> createdBy(List<Employee> employees) {
+        Set<Long> ids = new HashSet<>();
+        for (Employee employee : employees) {
+            if (employee.getCreatedBy() != null) {
+                ids.add(employee.getCreatedBy().getId());
+            }
+        }
+        Map<Long, UserResponse> users = ids.isEmpty() ? Map.of() : employeeGraphService.findUsers(ids);
+        Map<Employee, UserResponse> result = new HashMap<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            if (employee.getCreatedBy() != null) {
+                result.put(employee, users.get(employee.getCreatedBy().getId()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package com.capstone.employeemanagement.controller;
+
+import com.capstone.employeemanagement.dto.EmployeeHistoryResponse;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.service.EmployeeHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+@Tag(name = "Employee history", description = "Past states of employee records")
+public class EmployeeHistoryController {
+
+    /**
+     * Largest page of history rows a single request may ask for.
+     */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final EmployeeHistoryService historyService;
+
+    @Operation(summary = "Get the history of an employee", description = "Returns every recorded state of the employee that began within the period, oldest first, each with the change that produced it and the period it was valid for.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History returned"),
+            @ApiResponse(responseCode = "400", description = "Period ends before it starts", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Employee not found", content = @Content)
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<EmployeeHistoryResponse>> getHistory(
+            @PathVariable Long id,
+            @Parameter(description = "Start of the period (inclusive), ISO-8601", example = "2024-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the period (exclusive), ISO-8601", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return ResponseEntity.ok(historyService.getHistory(id, from, to));
+    }
+
+    @Operation(summary = "Get an employee as of an instant", description = "Returns the employee as they were at the given instant.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employee found", content = @Content(schema = @Schema(implementation = EmployeeHistoryResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Employee had no recorded state at that instant", content = @Content)
+    })
+    @GetMapping("/{id}/history/as-of")
+    public ResponseEntity<EmployeeHistoryResponse> getAsOf(
+            @PathVariable Long id,
+            @Parameter(description = "Instant to look at, ISO-8601", example = "2024-06-30T12:00:00Z")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at
+    ) {
+        return ResponseEntity.ok(historyService.getAsOf(id, at));
+    }
+
+    @Operation(summary = "Get changes within a period", description = "Returns a page of the changes to any employee made within the period, oldest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes returned", content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Period ends before it starts, or page size out of range", content = @Content)
+    })
+    @GetMapping("/history")
+    public ResponseEntity<PageResponse<EmployeeHistoryResponse>> getChanges(
+            @Parameter(description = "Start of the period (inclusive), ISO-8601", example = "2024-01-01T00:00:00Z")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the period (exclusive), ISO-8601", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100", example = "50")
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(historyService.getChanges(from, to, pageRequest(page, size)));
+    }
+
+    @Operation(summary = "Get the directory as of an instant", description = "Returns a page of the employees that were active at the given instant, as they were then, ordered by id.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees returned", content = @Content(schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Page size out of range", content = @Content)
+    })
+    @GetMapping("/history/as-of")
+    public ResponseEntity<PageResponse<EmployeeHistoryResponse>> getDirectoryAsOf(
+            @Parameter(description = "Instant to look at, ISO-8601", example = "2024-06-30T12:00:00Z")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100", example = "50")
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(historyService.getDirectoryAsOf(at, pageRequest(page, size)));
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(page, size);
+    }
+}
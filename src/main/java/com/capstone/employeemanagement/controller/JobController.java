@@ -0,0 +1,120 @@
+package com.capstone.employeemanagement.controller;
+
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.dto.JobResponse;
+import com.capstone.employeemanagement.dto.TransferJobRequest;
+import com.capstone.employeemanagement.service.BulkJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Jobs", description = "Bulk imports, exports, transfers and duplicate scans run in the background")
+public class JobController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final BulkJobService bulkJobService;
+
+    @Operation(summary = "Import employees", description = "Queues the creation of the given employees. Items failing validation or likely duplicating an existing employee are counted as failed rows and do not stop the job. Only administrators are allowed to perform this operation.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued", content = @Content(schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized import", content = @Content)
+    })
+    @PostMapping("/imports")
+    public ResponseEntity<JobResponse> submitImport(@RequestBody List<EmployeeRequest> employees) {
+        return accepted(bulkJobService.submitImport(employees));
+    }
+
+    @Operation(summary = "Export employees", description = "Queues a CSV export of all active employees. Download the file from the job's result path once it has succeeded.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued", content = @Content(schema = @Schema(implementation = JobResponse.class)))
+    })
+    @PostMapping("/exports")
+    public ResponseEntity<JobResponse> submitExport() {
+        return accepted(bulkJobService.submitExport());
+    }
+
+    @Operation(summary = "Scan for duplicates", description = "Queues a scan of all active employees for likely duplicates: records with the same department and hire date and similar names. The result is a CSV of merge suggestions, each naming the record to keep and the one to merge into it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued", content = @Content(schema = @Schema(implementation = JobResponse.class)))
+    })
+    @PostMapping("/duplicates")
+    public ResponseEntity<JobResponse> submitDuplicateScan() {
+        return accepted(bulkJobService.submitDuplicateScan());
+    }
+
+    @Operation(summary = "Transfer a department", description = "Queues moving every active employee of one department to another, optionally with a new position.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued", content = @Content(schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content)
+    })
+    @PostMapping("/transfers")
+    public ResponseEntity<JobResponse> submitTransfer(@Valid @RequestBody TransferJobRequest request) {
+        return accepted(bulkJobService.submitTransfer(request));
+    }
+
+    @Operation(summary = "Get job status", description = "Returns the status, progress and throughput of a job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found", content = @Content(schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(bulkJobService.getJob(id));
+    }
+
+    @Operation(summary = "Cancel a job", description = "Cancels a queued job immediately. A running job stops after its current chunk; rows already processed are kept.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation accepted", content = @Content(schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Job has already finished", content = @Content)
+    })
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<JobResponse> cancel(@PathVariable UUID id) {
+        return ResponseEntity.ok(bulkJobService.cancel(id));
+    }
+
+    @Operation(summary = "Download a result", description = "Returns the CSV file written by a succeeded export or duplicate scan.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "CSV file", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "Job not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Job has not succeeded or writes no file", content = @Content)
+    })
+    @GetMapping("/{id}/result")
+    public ResponseEntity<Resource> getResult(@PathVariable UUID id) {
+        Path file = bulkJobService.getResultFile(id);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("job-" + id + ".csv").build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    private static ResponseEntity<JobResponse> accepted(JobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+}
@@ -2,6 +2,7 @@ package com.capstone.employeemanagement.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 @Data
@@ -10,6 +11,7 @@ public class AuthenticationRequest {
 
     @Schema(description = "Username or email used to log in", example = "john_doe")
     @NotBlank(message = "Username or email is required")
+    @Size(max = 255, message = "Username or email must be at most 255 characters")
     private String usernameOrEmail;
 
     @Schema(description = "User's password", example = "P@ssw0rd!")
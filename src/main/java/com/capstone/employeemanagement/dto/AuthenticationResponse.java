@@ -21,6 +21,12 @@ public class AuthenticationResponse {
     @Schema(description = "Expiration timestamp in milliseconds since epoch", example = "1700000000000")
     private long expiresAt;
 
+    @Schema(description = "Single-use token for obtaining a new access token from /api/auth/refresh")
+    private String refreshToken;
+
+    @Schema(description = "Refresh token expiration timestamp in milliseconds since epoch", example = "1701209600000")
+    private long refreshExpiresAt;
+
     @Schema(description = "Authenticated user details")
     private UserResponse user;
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.capstone.employeemanagement.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Ready-to-write UTF-8 JSON document, together with the entity version it
+ * was rendered from.  Cached documents are held in off-heap buffers.  Instances are immutable and
+ * may be written concurrently by many requests.
+ */
+public final class CachedJson {
+
+    private static final int COPY_CHUNK = 8192;
+
+    private final long version;
+    private final ByteBuffer bytes;
+
+    private CachedJson(long version, ByteBuffer bytes) {
+        this.version = version;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Copies the given JSON into a new direct buffer.
+     */
+    public static CachedJson of(long version, byte[] json) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(json.length);
+        buffer.put(json).flip();
+        return new CachedJson(version, buffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * Wraps the given JSON without copying it, for documents that are not
+     * cached.  The array must not be modified afterwards.
+     */
+    public static CachedJson wrap(long version, byte[] json) {
+        return new CachedJson(version, ByteBuffer.wrap(json).asReadOnlyBuffer());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int length() {
+        return bytes.remaining();
+    }
+
+    /**
+     * Writes the document to the given stream without touching the shared
+     * buffer's position.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteBuffer view = bytes.duplicate();
+        byte[] chunk = new byte[Math.min(COPY_CHUNK, view.remaining())];
+        while (view.hasRemaining()) {
+            int count = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, count);
+            out.write(chunk, 0, count);
+        }
+    }
+}
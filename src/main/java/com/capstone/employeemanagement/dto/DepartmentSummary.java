@@ -0,0 +1,25 @@
+package com.capstone.employeemanagement.dto;
+
+import com.capstone.employeemanagement.model.Department;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregate figures of the active employees in one department.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class DepartmentSummary {
+
+    private Department department;
+
+    private Long headcount;
+
+    private LocalDate earliestHireDate;
+
+    private LocalDate latestHireDate;
+}
\ No newline at end of file
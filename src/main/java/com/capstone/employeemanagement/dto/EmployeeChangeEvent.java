@@ -0,0 +1,36 @@
+package com.capstone.employeemanagement.dto;
+
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "Change event describing a committed employee mutation")
+public class EmployeeChangeEvent {
+
+    @Schema(description = "Unique sequence number, increasing for the events of one employee; usable to skip duplicates", example = "42")
+    private long sequence;
+
+    @Schema(description = "Tenant owning the employee", example = "default")
+    private String tenantId;
+
+    @Schema(description = "Kind of change", example = "UPDATED")
+    private EmployeeEventType type;
+
+    @Schema(description = "Identifier of the affected employee", example = "1")
+    private Long employeeId;
+
+    @Schema(description = "Time the change was recorded", example = "2025-11-18T12:00:00Z")
+    private Instant occurredAt;
+
+    @Schema(description = "Employee state after the change; null for deletions", implementation = EmployeeResponse.class)
+    @JsonRawValue
+    private String employee;
+}
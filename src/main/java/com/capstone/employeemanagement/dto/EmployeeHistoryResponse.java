@@ -0,0 +1,58 @@
+package com.capstone.employeemanagement.dto;
+
+import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "An employee record as it was during a period of time")
+public class EmployeeHistoryResponse {
+
+    @Schema(description = "Identifier of the employee", example = "1")
+    private Long id;
+
+    @Schema(description = "Version of the record this state was saved as", example = "3")
+    private Long version;
+
+    @Schema(description = "Full name of the employee", example = "Alice Johnson")
+    private String name;
+
+    @Schema(description = "Job position or title", example = "Software Engineer")
+    private String position;
+
+    @Schema(description = "Department where the employee worked", example = "ENGINEERING")
+    private Department department;
+
+    @Schema(description = "Date the employee was hired (ISO format)", example = "2025-01-15")
+    private LocalDate hireDate;
+
+    @Schema(description = "Identifier of the employee's direct manager, if any", example = "1")
+    private Long managerId;
+
+    @Schema(description = "Employment status", example = "ACTIVE")
+    private EmployeeStatus status;
+
+    @Schema(description = "Last day of employment, for terminated employees (ISO format)", example = "2026-06-30")
+    private LocalDate terminationDate;
+
+    @Schema(description = "Change that produced this state", example = "UPDATED")
+    private EmployeeEventType changeType;
+
+    @Schema(description = "User who made the change, if known", example = "admin")
+    private String changedBy;
+
+    @Schema(description = "Start of the period this state was valid for", example = "2026-03-01T09:30:00Z")
+    private Instant validFrom;
+
+    @Schema(description = "End of the period (exclusive); absent for the current state", example = "2026-04-15T14:00:00Z")
+    private Instant validTo;
+}
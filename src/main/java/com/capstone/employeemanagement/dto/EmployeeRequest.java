@@ -29,4 +29,7 @@ public class EmployeeRequest {
     @NotNull(message = "Hire date is required")
     @PastOrPresent(message = "Hire date cannot be in the future")
     private LocalDate hireDate;
+
+    @Schema(description = "Identifier of the employee's direct manager; omit for the top of the hierarchy", example = "1")
+    private Long managerId;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.capstone.employeemanagement.dto;
 
 import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.model.EmployeeStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,4 +30,13 @@ public class EmployeeResponse {
 
     @Schema(description = "Date the employee was hired (ISO format)", example = "2025-01-15")
     private LocalDate hireDate;
+
+    @Schema(description = "Identifier of the employee's direct manager, if any", example = "1")
+    private Long managerId;
+
+    @Schema(description = "Employment status", example = "ACTIVE")
+    private EmployeeStatus status;
+
+    @Schema(description = "Last day of employment, for terminated employees (ISO format)", example = "2026-06-30")
+    private LocalDate terminationDate;
 }
\ No newline at end of file
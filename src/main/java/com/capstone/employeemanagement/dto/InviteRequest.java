@@ -0,0 +1,16 @@
+package com.capstone.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request payload for inviting a user to the caller's tenant")
+public class InviteRequest {
+
+    @Schema(description = "Email the invited user must register with", example = "jane.doe@example.com")
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    private String email;
+}
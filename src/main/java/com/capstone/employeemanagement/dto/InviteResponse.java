@@ -0,0 +1,22 @@
+package com.capstone.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+@Schema(description = "Invite to register in a tenant")
+public class InviteResponse {
+
+    @Schema(description = "Token to pass as inviteToken when registering")
+    private String inviteToken;
+
+    @Schema(description = "Email the invite was issued for", example = "jane.doe@example.com")
+    private String email;
+
+    @Schema(description = "Expiration timestamp in milliseconds since epoch", example = "1700604800000")
+    private long expiresAt;
+}
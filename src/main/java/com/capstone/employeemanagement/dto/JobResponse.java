@@ -0,0 +1,59 @@
+package com.capstone.employeemanagement.dto;
+
+import com.capstone.employeemanagement.model.BulkJobStatus;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Status and progress of a bulk job")
+public class JobResponse {
+
+    @Schema(description = "Job identifier")
+    private UUID id;
+
+    @Schema(description = "Kind of job", example = "IMPORT")
+    private BulkJobType type;
+
+    @Schema(description = "Current status", example = "RUNNING")
+    private BulkJobStatus status;
+
+    @Schema(description = "Number of rows the job processes; known once it has started", example = "50000")
+    private Long totalRows;
+
+    @Schema(description = "Rows processed so far, including failed ones", example = "12000")
+    private long processedRows;
+
+    @Schema(description = "Rows that could not be processed", example = "3")
+    private long failedRows;
+
+    @Schema(description = "Share of rows processed, in percent", example = "24.0")
+    private Double percentComplete;
+
+    @Schema(description = "Processed rows per second of processing time", example = "850.5")
+    private Double rowsPerSecond;
+
+    @Schema(description = "Whether cancellation was requested and is pending")
+    private boolean cancelRequested;
+
+    @Schema(description = "Why the job failed, or the last row failure")
+    private String error;
+
+    @Schema(description = "Path of the job's result, once it is available", example = "/api/jobs/5b0ac280-954b-42c6-8707-d22f35295a85/result")
+    private String resultPath;
+
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.capstone.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Compact page envelope.  Unlike a serialized Spring {@link Page} it carries
+ * no pageable or sort metadata, and the total count is only present when the
+ * client asked for it, which saves the count query otherwise.
+ *
+ * @param <T> element type
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "A page of results")
+public class PageResponse<T> {
+
+    @Schema(description = "Elements on this page")
+    private List<T> content;
+
+    @Schema(description = "Page number (0-based)", example = "0")
+    private int page;
+
+    @Schema(description = "Requested page size", example = "10")
+    private int size;
+
+    @Schema(description = "Whether a further page exists", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Total number of elements; only present when includeTotal=true", example = "42")
+    private Long totalElements;
+
+    @Schema(description = "Total number of pages; only present when includeTotal=true", example = "5")
+    private Integer totalPages;
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .hasNext(page.hasNext())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
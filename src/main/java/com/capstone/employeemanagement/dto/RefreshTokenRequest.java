@@ -0,0 +1,14 @@
+package com.capstone.employeemanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request payload carrying a refresh token")
+public class RefreshTokenRequest {
+
+    @Schema(description = "Refresh token returned by login, registration or a previous refresh")
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -24,4 +24,7 @@ public class RegisterRequest {
     @NotBlank(message = "Password is required")
     @Size(min = 8, max = 100, message = "Password must be at least 8 characters long")
     private String password;
-}
\ No newline at end of file
+
+    @Schema(description = "Invite from an administrator of the tenant to join.  Without one the account is created in the default tenant, if open registration is enabled")
+    private String inviteToken;
+}
@@ -0,0 +1,22 @@
+package com.capstone.employeemanagement.dto;
+
+import com.capstone.employeemanagement.model.Department;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request payload for moving all active employees of one department to another")
+public class TransferJobRequest {
+
+    @Schema(description = "Department whose employees are moved", example = "IT")
+    @NotNull(message = "Source department is required")
+    private Department fromDepartment;
+
+    @Schema(description = "Department the employees move to", example = "ENGINEERING")
+    @NotNull(message = "Target department is required")
+    private Department toDepartment;
+
+    @Schema(description = "New position for every moved employee; positions are kept if omitted", example = "Software Engineer")
+    private String position;
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.capstone.employeemanagement.exception;
+
+/**
+ * Thrown when a request conflicts with the current state of a resource, such
+ * as registering a username that is already taken.  Mapped to 409.  Like
+ * {@link EmployeeNotFoundException} it is an expected outcome, so no stack
+ * trace is captured.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
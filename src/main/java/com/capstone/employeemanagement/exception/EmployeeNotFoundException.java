@@ -0,0 +1,23 @@
+package com.capstone.employeemanagement.exception;
+
+/**
+ * Thrown when an employee does not exist.  Missing employees are the most
+ * frequent error the API returns (stale links, scanners), and the cause is
+ * always the same, so the exception captures no stack trace and is mapped
+ * to a 404 with a fixed message.
+ */
+public class EmployeeNotFoundException extends RuntimeException {
+
+    public static final String MESSAGE = "Employee not found";
+
+    private final Long employeeId;
+
+    public EmployeeNotFoundException(Long employeeId) {
+        super(MESSAGE, null, false, false);
+        this.employeeId = employeeId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+}
@@ -1,10 +1,13 @@
 package com.capstone.employeemanagement.exception;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
 
+import org.springframework.http.HttpStatus;
+
 import java.time.Instant;
 import java.util.List;
 
@@ -15,6 +18,7 @@ import java.util.List;
  */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "Error response body returned when an exception occurs")
 public class ErrorResponse {
 
@@ -33,4 +37,18 @@ public class ErrorResponse {
 
     @Schema(description = "Requested path that resulted in the error", example = "/api/employees/1")
     private String path;
-}
\ No newline at end of file
+
+    /**
+     * Builds an error body for the given status.  Callers on hot error paths
+     * pass a constant message list so only the timestamp and path vary.
+     */
+    public static ErrorResponse of(HttpStatus status, List<String> message, String path) {
+        return ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(path)
+                .build();
+    }
+}
@@ -1,14 +1,18 @@
 package com.capstone.employeemanagement.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -19,11 +23,67 @@ import java.util.stream.Collectors;
  * Central exception handler that converts thrown exceptions into consistent
  * response bodies.  It handles validation errors, authentication failures,
  * missing resources and any uncaught exceptions, returning meaningful HTTP
- * status codes and messages.
+ * status codes and messages.  Frequent, expected errors (missing employees,
+ * unknown paths, malformed ids) use constant message lists and are never
+ * logged with a stack trace.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final List<String> EMPLOYEE_NOT_FOUND = List.of(EmployeeNotFoundException.MESSAGE);
+    private static final List<String> JOB_NOT_FOUND = List.of(JobNotFoundException.MESSAGE);
+    private static final List<String> RESOURCE_NOT_FOUND = List.of("No resource at this path");
+    private static final List<String> CONCURRENT_MODIFICATION =
+            List.of("The resource was modified by another request; reload it and try again");
+    private static final List<String> DATA_CONFLICT = List.of("The request conflicts with existing data");
+
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEmployeeNotFound(EmployeeNotFoundException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.NOT_FOUND, EMPLOYEE_NOT_FOUND, request.getRequestURI()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(JobNotFoundException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.NOT_FOUND, JOB_NOT_FOUND, request.getRequestURI()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResource(NoResourceFoundException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.NOT_FOUND, RESOURCE_NOT_FOUND, request.getRequestURI()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        List<String> message = List.of("Invalid value for parameter '" + ex.getName() + "'");
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.BAD_REQUEST, message, request.getRequestURI()),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.CONFLICT, List.of(ex.getMessage()), request.getRequestURI()),
+                HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.CONFLICT, CONCURRENT_MODIFICATION, request.getRequestURI()),
+                HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Unique constraint violations that slipped past the service's own checks,
+     * e.g. two concurrent registrations of the same username.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex, HttpServletRequest request) {
+        return new ResponseEntity<>(ErrorResponse.of(HttpStatus.CONFLICT, DATA_CONFLICT, request.getRequestURI()),
+                HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
         List<String> errors = ex.getBindingResult().getAllErrors().stream()
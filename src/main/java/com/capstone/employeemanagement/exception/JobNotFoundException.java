@@ -0,0 +1,23 @@
+package com.capstone.employeemanagement.exception;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a bulk job does not exist or belongs to another tenant.
+ * Mapped to a 404 with a fixed message; no stack trace is captured.
+ */
+public class JobNotFoundException extends RuntimeException {
+
+    public static final String MESSAGE = "Job not found";
+
+    private final UUID jobId;
+
+    public JobNotFoundException(UUID jobId) {
+        super(MESSAGE, null, false, false);
+        this.jobId = jobId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+}
@@ -0,0 +1,20 @@
+package com.capstone.employeemanagement.model;
+
+/**
+ * Operations recorded in the audit log.  Persisted by name, so constants may
+ * be added but existing ones must not be renamed.
+ */
+public enum AuditAction {
+    EMPLOYEE_CREATED,
+    EMPLOYEE_UPDATED,
+    EMPLOYEE_DELETED,
+    USER_REGISTERED,
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    TOKEN_REFRESHED,
+    REFRESH_TOKEN_REUSED,
+    LOGGED_OUT,
+    BULK_JOB_SUBMITTED,
+    BULK_JOB_CANCELLED,
+    USER_INVITED;
+}
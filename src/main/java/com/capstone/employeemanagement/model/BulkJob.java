@@ -0,0 +1,106 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A long-running bulk operation and its progress.  The job advances in
+ * chunks; every chunk commits its work together with the new
+ * {@code checkpoint} and counters, so the row always describes exactly the
+ * work that is durable.  A worker owns a running job while its lease is
+ * valid.
+ */
+@Entity
+@Table(name = "bulk_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJob {
+
+    @Id
+    private UUID id;
+
+    /**
+     * Tenant the job works for.  A plain column rather than a tenant filter:
+     * workers claim the jobs of every tenant.
+     */
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 16)
+    private BulkJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private BulkJobStatus status;
+
+    /**
+     * Username of the submitter; the job runs on their behalf.
+     */
+    @Column(nullable = false)
+    private String submittedBy;
+
+    /**
+     * JSON input of the job, if its type takes any.
+     */
+    @Column(columnDefinition = "text")
+    private String parameters;
+
+    /**
+     * Last key processed: a 1-based item position for imports, an employee
+     * id for jobs that walk the employees.
+     */
+    @Column(nullable = false)
+    private long checkpoint;
+
+    /**
+     * Length of the job's output file as of the checkpoint.
+     */
+    @Column(nullable = false)
+    private long outputBytes;
+
+    private Long totalRows;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private long failedRows;
+
+    /**
+     * Time spent processing chunks, excluding time queued or waiting for a
+     * restart.
+     */
+    @Column(nullable = false)
+    private long activeMillis;
+
+    @Column(nullable = false)
+    private boolean cancelRequested;
+
+    /**
+     * Why the job failed, or the last row failure of a job that completed.
+     */
+    @Column(columnDefinition = "text")
+    private String error;
+
+    @Column(length = 64)
+    private String leaseOwner;
+
+    private Instant leaseExpiresAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+}
@@ -0,0 +1,17 @@
+package com.capstone.employeemanagement.model;
+
+/**
+ * Lifecycle of a bulk job.  {@link #SUCCEEDED}, {@link #FAILED} and
+ * {@link #CANCELLED} are final.
+ */
+public enum BulkJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this != QUEUED && this != RUNNING;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.capstone.employeemanagement.model;
+
+/**
+ * Kinds of bulk jobs.  Each is carried out by the
+ * {@code BulkJobHandler} of the same type.
+ */
+public enum BulkJobType {
+    IMPORT(false),
+    EXPORT(true),
+    TRANSFER(false),
+    DUPLICATES(true);
+
+    private final boolean producesFile;
+
+    BulkJobType(boolean producesFile) {
+        this.producesFile = producesFile;
+    }
+
+    /**
+     * Whether a succeeded job of this type leaves a CSV file to download.
+     */
+    public boolean producesFile() {
+        return producesFile;
+    }
+}
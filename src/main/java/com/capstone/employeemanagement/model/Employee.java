@@ -3,6 +3,7 @@ package com.capstone.employeemanagement.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 
@@ -27,6 +28,15 @@ public class Employee {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Owning tenant.  Hibernate sets it from the current tenant on insert and
+     * adds it to every query, which also lets PostgreSQL prune the table's
+     * tenant partitions.
+     */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @Column(nullable = false)
     private String name;
 
@@ -40,6 +50,38 @@ public class Employee {
     @Column(nullable = false)
     private LocalDate hireDate;
 
+    /**
+     * Employment status.  It is the table's partition key: terminating an
+     * employee moves the row from the active partition to the archive.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private EmployeeStatus status = EmployeeStatus.ACTIVE;
+
+    /**
+     * Last day of employment, set exactly when the employee is terminated.
+     */
+    private LocalDate terminationDate;
+
+    /**
+     * Optimistic locking version, incremented on every update.  It also keys
+     * cached serialized responses and their ETags.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * The employee's direct manager, or {@code null} at the top of the
+     * hierarchy.  Changes must go through {@code EmployeeService}, which keeps
+     * the {@link EmployeeHierarchy} closure in step.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "manager_id")
+    @JsonIgnore
+    private Employee manager;
+
     /**
      * The user who created this employee record.  This association is optional
      * and loaded lazily to avoid unnecessary joins.  The property is marked
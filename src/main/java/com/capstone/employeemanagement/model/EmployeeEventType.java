@@ -0,0 +1,11 @@
+package com.capstone.employeemanagement.model;
+
+/**
+ * Kinds of changes recorded for an employee.  Each mutation performed by the
+ * employee service produces exactly one event of the matching type.
+ */
+public enum EmployeeEventType {
+    CREATED,
+    UPDATED,
+    DELETED;
+}
@@ -0,0 +1,52 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.TenantId;
+
+import java.io.Serializable;
+
+/**
+ * One row of the reporting-hierarchy closure: {@code ancestorId} is
+ * {@code depth} levels above {@code descendantId} in the chain of command.
+ * Every employee is also its own ancestor at depth 0.  Rows are written only
+ * through the set-based statements in
+ * {@link com.capstone.employeemanagement.repository.EmployeeHierarchyRepository};
+ * the entity exists so that reads can join it in JPQL.
+ */
+@Entity
+@Table(name = "employee_hierarchy")
+@IdClass(EmployeeHierarchy.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeHierarchy {
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    /**
+     * Composite identifier within a tenant.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -0,0 +1,80 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.TenantId;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One state of an employee record, valid from {@code validFrom} (inclusive)
+ * until {@code validTo} (exclusive); the current state has no
+ * {@code validTo}.  Rows are written only through the statements in
+ * {@link com.capstone.employeemanagement.repository.EmployeeHistoryRepository}.
+ */
+@Entity
+@Table(name = "employee_history")
+@IdClass(EmployeeHistory.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeHistory {
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    private Long version;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Department department;
+
+    @Column(nullable = false)
+    private LocalDate hireDate;
+
+    private Long managerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmployeeStatus status;
+
+    private LocalDate terminationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EmployeeEventType changeType;
+
+    private String changedBy;
+
+    @Column(nullable = false)
+    private Instant validFrom;
+
+    private Instant validTo;
+
+    /**
+     * Composite identifier within a tenant.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long employeeId;
+        private Long version;
+    }
+}
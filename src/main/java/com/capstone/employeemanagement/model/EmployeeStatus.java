@@ -0,0 +1,11 @@
+package com.capstone.employeemanagement.model;
+
+/**
+ * Employment status.  Terminated employees are kept for record keeping but
+ * stored in the archive partition and left out of queries unless archived
+ * rows are explicitly requested.
+ */
+public enum EmployeeStatus {
+    ACTIVE,
+    TERMINATED;
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Persisted outcome of a write request carrying an {@code Idempotency-Key}.
+ * A row is inserted when a request claims its key and completed with the
+ * response once the request finishes; a row without a response status is
+ * still in flight, leased to its instance until {@code lockedUntil}.  Each
+ * claim writes a new {@code ownerToken}; only the claim holding it may
+ * complete, release or renew the row.  The key is scoped to the calling user.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 320)
+    private String id;
+
+    /**
+     * SHA-256 of method, path and body, used to reject key reuse for a
+     * different request.
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer responseStatus;
+
+    private String contentType;
+
+    @Column(columnDefinition = "bytea")
+    private byte[] responseBody;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * End of the processing lease of an in-flight request; {@code null} once
+     * completed.
+     */
+    private Instant lockedUntil;
+
+    /**
+     * Random token of the claim that owns the key.
+     */
+    @Column(length = 36)
+    private String ownerToken;
+}
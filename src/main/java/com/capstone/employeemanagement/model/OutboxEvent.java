@@ -0,0 +1,55 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A change event written to the transactional outbox.  Events are inserted in
+ * the same transaction as the employee mutation they describe, so an event
+ * exists if and only if the change committed.  The identifier doubles as the
+ * event's sequence number.  Because the employee row is flushed (and thereby
+ * locked) before its event is inserted, events of the same employee receive
+ * increasing identifiers in commit order.  {@code publishedAt} is set once
+ * the relay has handed the event to every sink.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Tenant owning the employee.  A plain column rather than a tenant
+     * filter: the relay publishes the events of every tenant.
+     */
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private EmployeeEventType type;
+
+    /**
+     * JSON representation of the employee after the change, or {@code null}
+     * for deletions.
+     */
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant publishedAt;
+}
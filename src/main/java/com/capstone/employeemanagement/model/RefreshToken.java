@@ -0,0 +1,56 @@
+package com.capstone.employeemanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A refresh token issued to a user.  The token itself is never stored, only
+ * its SHA-256 hash.  Each refresh rotates the token: the presented one is
+ * marked rotated and a successor in the same family is issued, so a rotated
+ * token showing up again means it was stolen and the family is revoked.
+ * <p>
+ * Tokens are not tenant filtered, since they are presented without a tenant;
+ * each one records the tenant of its user instead.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * Shared by every token descended from the same login.
+     */
+    @Column(nullable = false)
+    private UUID familyId;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    private Instant rotatedAt;
+
+    private Instant revokedAt;
+}
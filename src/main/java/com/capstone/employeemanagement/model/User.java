@@ -2,6 +2,7 @@ package com.capstone.employeemanagement.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.TenantId;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,14 +11,17 @@ import java.util.Collection;
 import java.util.List;
 
 /**
- * Entity representing an authenticated user of the system.  Users have a
- * unique username and email, a hashed password and a {@link Role} defining
- * their access level.  By implementing the {@link UserDetails} interface the
+ * Entity representing an authenticated user of the system.  Users belong to
+ * a tenant and have a username and email unique within it, a hashed
+ * password and a {@link Role} defining their access level.  By implementing the {@link UserDetails} interface the
  * entity can be used directly by Spring Security for authentication and
  * authorization.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_tenant_username", columnNames = {"tenant_id", "username"}),
+        @UniqueConstraint(name = "uk_users_tenant_email", columnNames = {"tenant_id", "email"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,10 +33,17 @@ public class User implements UserDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    /**
+     * Owning tenant.  Usernames and emails are unique per tenant.
+     */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(nullable = false)
     private String username;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -0,0 +1,68 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for {@link BulkJob}s.  Jobs are not tenant-filtered, so lookups
+ * on behalf of a client always name the tenant.
+ */
+@Repository
+public interface BulkJobRepository extends JpaRepository<BulkJob, UUID> {
+
+    Optional<BulkJob> findByIdAndTenantId(UUID id, String tenantId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from BulkJob j where j.id = :id")
+    Optional<BulkJob> findForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from BulkJob j where j.id = :id and j.tenantId = :tenantId")
+    Optional<BulkJob> findForUpdate(@Param("id") UUID id, @Param("tenantId") String tenantId);
+
+    /**
+     * Locks the oldest jobs a worker may take: queued ones and running ones
+     * whose lease expired.  Rows locked by another worker are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select j from BulkJob j
+             where j.status = com.capstone.employeemanagement.model.BulkJobStatus.QUEUED
+                or (j.status = com.capstone.employeemanagement.model.BulkJobStatus.RUNNING and j.leaseExpiresAt < :now)
+             order by j.createdAt
+            """)
+    List<BulkJob> findClaimable(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Returns the oldest jobs that reached a final status before the given
+     * instant, for the purge of expired jobs and their result files.
+     */
+    @Query("""
+            select j.id from BulkJob j
+             where j.status not in (com.capstone.employeemanagement.model.BulkJobStatus.QUEUED,
+                                    com.capstone.employeemanagement.model.BulkJobStatus.RUNNING)
+               and j.finishedAt < :before
+             order by j.finishedAt
+            """)
+    List<UUID> findFinishedBefore(@Param("before") Instant before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from BulkJob j where j.id in :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
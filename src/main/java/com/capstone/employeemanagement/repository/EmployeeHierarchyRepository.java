@@ -0,0 +1,111 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.EmployeeHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Maintains the reporting-hierarchy closure table with set-based statements,
+ * so a move or removal touches each affected (ancestor, descendant) pair once
+ * regardless of how deep the subtree is.  Native statements are not tenant
+ * filtered by Hibernate and therefore all take the tenant explicitly.
+ * <p>
+ * Changes are serialized per tenant with an advisory lock: adding a leaf
+ * takes it shared, moving or removing a node exclusively, so a concurrent
+ * move can neither create a cycle nor miss a leaf added under the moved
+ * subtree.
+ */
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, EmployeeHierarchy.Key> {
+
+    /**
+     * High half of the advisory lock key, keeping these locks apart from
+     * other users of advisory locks.
+     */
+    long LOCK_NAMESPACE = 0x48494552L;
+
+    static long lockKey(String tenantId) {
+        return (LOCK_NAMESPACE << 32) | (tenantId.hashCode() & 0xFFFFFFFFL);
+    }
+
+    @Query(value = "select count(*) from (select pg_advisory_xact_lock_shared(:key)) l", nativeQuery = true)
+    long lockShared(@Param("key") long key);
+
+    @Query(value = "select count(*) from (select pg_advisory_xact_lock(:key)) l", nativeQuery = true)
+    long lockExclusive(@Param("key") long key);
+
+    /**
+     * Whether {@code descendantId} is {@code ancestorId} itself or anywhere
+     * below it.
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * Adds a new employee as a single-node tree.  An employee with a manager
+     * is then linked in with {@link #attachSubtree}.
+     */
+    @Modifying
+    @Query(value = """
+            insert into employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+            values (:tenantId, :id, :id, 0)
+            """, nativeQuery = true)
+    int insertNode(@Param("tenantId") String tenantId, @Param("id") Long id);
+
+    /**
+     * Cuts the subtree rooted at {@code rootId} off its current ancestors.
+     * Links inside the subtree are kept.
+     */
+    @Modifying
+    @Query(value = """
+            delete from employee_hierarchy
+             where tenant_id = :tenantId
+               and descendant_id in (select descendant_id from employee_hierarchy
+                                      where tenant_id = :tenantId and ancestor_id = :rootId)
+               and ancestor_id in (select ancestor_id from employee_hierarchy
+                                    where tenant_id = :tenantId and descendant_id = :rootId and ancestor_id <> :rootId)
+            """, nativeQuery = true)
+    int detachSubtree(@Param("tenantId") String tenantId, @Param("rootId") Long rootId);
+
+    /**
+     * Links a detached subtree below {@code managerId}: every ancestor of the
+     * manager (the manager included) becomes an ancestor of every member of
+     * the subtree.
+     */
+    @Modifying
+    @Query(value = """
+            insert into employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+            select :tenantId, above.ancestor_id, below.descendant_id, above.depth + below.depth + 1
+              from employee_hierarchy above, employee_hierarchy below
+             where above.tenant_id = :tenantId and above.descendant_id = :managerId
+               and below.tenant_id = :tenantId and below.ancestor_id = :rootId
+            """, nativeQuery = true)
+    int attachSubtree(@Param("tenantId") String tenantId, @Param("rootId") Long rootId,
+                      @Param("managerId") Long managerId);
+
+    /**
+     * Shortens by one level every path that ran through {@code id}, which
+     * moves its reports up to its manager.  Must be followed by
+     * {@link #deleteNode}.
+     */
+    @Modifying
+    @Query(value = """
+            update employee_hierarchy
+               set depth = depth - 1
+             where tenant_id = :tenantId
+               and ancestor_id in (select ancestor_id from employee_hierarchy
+                                    where tenant_id = :tenantId and descendant_id = :id and ancestor_id <> :id)
+               and descendant_id in (select descendant_id from employee_hierarchy
+                                      where tenant_id = :tenantId and ancestor_id = :id and descendant_id <> :id)
+            """, nativeQuery = true)
+    int bypassNode(@Param("tenantId") String tenantId, @Param("id") Long id);
+
+    @Modifying
+    @Query(value = """
+            delete from employee_hierarchy
+             where tenant_id = :tenantId and (ancestor_id = :id or descendant_id = :id)
+            """, nativeQuery = true)
+    int deleteNode(@Param("tenantId") String tenantId, @Param("id") Long id);
+}
@@ -0,0 +1,106 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.EmployeeHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Appends to and reads the employee history.  Native statements are not
+ * tenant filtered by Hibernate and therefore all take the tenant
+ * explicitly; the "as of" reads are native so that they can use the
+ * range-containment operator the GiST index supports.
+ */
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, EmployeeHistory.Key> {
+
+    /**
+     * Records the current state of the given employees, which must have
+     * been flushed: closes each one's open row and appends a row valid from
+     * now on.  Both use one timestamp taken at the time of the statement,
+     * after the employees' rows are locked by the change, so the ranges of
+     * one employee follow each other in commit order.  Employees whose
+     * current version is already recorded, e.g. after an update that changed
+     * nothing and so did not bump the version, are left alone.
+     */
+    @Modifying
+    @Query(value = """
+            with at as (select clock_timestamp() as ts),
+            changed as (
+                select e.* from employees e
+                 where e.tenant_id = :tenantId and e.id in (:ids)
+                   and not exists (select 1 from employee_history h
+                                    where h.tenant_id = e.tenant_id and h.employee_id = e.id
+                                      and h.version = e.version)
+            ),
+            closed as (
+                update employee_history h
+                   set valid_to = at.ts
+                  from at, changed c
+                 where h.tenant_id = c.tenant_id and h.employee_id = c.id and h.valid_to is null
+            )
+            insert into employee_history (tenant_id, employee_id, version, name, position, department, hire_date,
+                                          manager_id, status, termination_date, change_type, changed_by, valid_from)
+            select c.tenant_id, c.id, c.version, c.name, c.position, c.department, c.hire_date,
+                   c.manager_id, c.status, c.termination_date, :changeType, :changedBy, at.ts
+              from changed c, at
+            """, nativeQuery = true)
+    int recordVersions(@Param("tenantId") String tenantId, @Param("ids") Collection<Long> ids,
+                       @Param("changeType") String changeType, @Param("changedBy") String changedBy);
+
+    /**
+     * Returns the state of one employee at the given instant.
+     */
+    @Query(value = """
+            select * from employee_history
+             where tenant_id = :tenantId and employee_id = :id
+               and tstzrange(valid_from, valid_to) @> cast(:at as timestamptz)
+            """, nativeQuery = true)
+    Optional<EmployeeHistory> findAsOf(@Param("tenantId") String tenantId, @Param("id") Long id,
+                                       @Param("at") Instant at);
+
+    /**
+     * Returns the employees that were active at the given instant, as they
+     * were then, in id order.
+     */
+    @Query(value = """
+            select * from employee_history
+             where tenant_id = :tenantId
+               and tstzrange(valid_from, valid_to) @> cast(:at as timestamptz)
+               and status = 'ACTIVE'
+             order by employee_id
+            """, nativeQuery = true)
+    Slice<EmployeeHistory> findActiveAsOf(@Param("tenantId") String tenantId, @Param("at") Instant at,
+                                          Pageable pageable);
+
+    /**
+     * Returns the states of one employee that began within
+     * [{@code from}, {@code to}), oldest first.
+     */
+    @Query("""
+            select h from EmployeeHistory h
+             where h.employeeId = :id and h.validFrom >= :from and h.validFrom < :to
+             order by h.version
+            """)
+    List<EmployeeHistory> findChanges(@Param("id") Long id, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Returns the changes to any employee of the tenant made within
+     * [{@code from}, {@code to}), oldest first.
+     */
+    @Query("""
+            select h from EmployeeHistory h
+             where h.validFrom >= :from and h.validFrom < :to
+             order by h.validFrom, h.employeeId
+            """)
+    Slice<EmployeeHistory> findChanges(@Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+}
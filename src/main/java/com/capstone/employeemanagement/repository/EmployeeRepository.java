@@ -1,15 +1,200 @@
 package com.capstone.employeemanagement.repository;
 
+import com.capstone.employeemanagement.dto.DepartmentSummary;
+import com.capstone.employeemanagement.model.Department;
 import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository for managing {@link Employee} entities.  Extending
  * {@link JpaRepository} provides built‑in CRUD operations and pagination
  * support.  See the Spring Data JPA guide for details on how repositories
  * automatically implement methods based on their interface definitions【607653242615892†L204-L240】.
+ * Sparse-fieldset projections come from {@link EmployeeRepositoryCustom};
+ * hierarchy reads join the closure maintained by
+ * {@link EmployeeHierarchyRepository}.
+ * <p>
+ * Queries over active employees name the status explicitly, because that
+ * predicate is what lets PostgreSQL skip the archive partition; the inherited
+ * {@code findAll} and {@code count} cover both.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+    /**
+     * Returns a page of employees without issuing a count query.
+     */
+    Slice<Employee> findSliceBy(Pageable pageable);
+
+    Page<Employee> findByStatus(EmployeeStatus status, Pageable pageable);
+
+    Slice<Employee> findSliceByStatus(EmployeeStatus status, Pageable pageable);
+
+    long countByStatus(EmployeeStatus status);
+
+    Optional<Employee> findByIdAndStatus(Long id, EmployeeStatus status);
+
+    boolean existsByIdAndStatus(Long id, EmployeeStatus status);
+
+    /**
+     * Returns the columns held by the in-memory directory snapshot for every
+     * active employee, in id order: id, version, name, position, department,
+     * hire date and manager id.  The manager id is read from the foreign key
+     * column without a join.
+     */
+    @Query("""
+            select e.id, e.version, e.name, e.position, e.department, e.hireDate, e.manager.id
+              from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+             order by e.id
+            """)
+    List<Object[]> findDirectoryRows();
+
+    /**
+     * Returns the current state of the given employees, whatever their
+     * status: id, version, status, name, position, department, hire date and
+     * manager id.  Used to bring the directory snapshot up to date with
+     * changes made through other instances.
+     */
+    @Query("""
+            select e.id, e.version, e.status, e.name, e.position, e.department, e.hireDate, e.manager.id
+              from Employee e
+             where e.id in :ids
+            """)
+    List<Object[]> findDirectoryChanges(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns headcount and hire date range of the active employees per
+     * department, in department order.
+     */
+    @Query("""
+            select new com.capstone.employeemanagement.dto.DepartmentSummary(
+                       e.department, count(e), min(e.hireDate), max(e.hireDate))
+              from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+             group by e.department
+             order by e.department
+            """)
+    List<DepartmentSummary> summarizeDepartments();
+
+    long countByStatusAndDepartment(EmployeeStatus status, Department department);
+
+    /**
+     * Returns the ids of the active employees after the given id, in order,
+     * for jobs that walk all employees in chunks.
+     */
+    @Query("""
+            select e.id from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE and e.id > :after
+             order by e.id
+            """)
+    List<Long> findActiveIdsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("""
+            select e.id from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+               and e.department = :department and e.id > :after
+             order by e.id
+            """)
+    List<Long> findActiveIdsInDepartmentAfter(@Param("department") Department department, @Param("after") long after,
+                                              Pageable pageable);
+
+    @Query("""
+            select count(distinct e.hireDate) from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+            """)
+    long countActiveHireDates();
+
+    /**
+     * Returns the distinct hire dates of active employees, in order, for the
+     * duplicate scan that walks them in chunks.
+     */
+    @Query("""
+            select distinct e.hireDate from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+             order by e.hireDate
+            """)
+    List<LocalDate> findActiveHireDates(Pageable pageable);
+
+    @Query("""
+            select distinct e.hireDate from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE and e.hireDate > :after
+             order by e.hireDate
+            """)
+    List<LocalDate> findActiveHireDatesAfter(@Param("after") LocalDate after, Pageable pageable);
+
+    /**
+     * Returns id, name, department and hire date of the active employees
+     * hired within the given dates, the input of duplicate detection.
+     */
+    @Query("""
+            select e.id, e.name, e.department, e.hireDate from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+               and e.hireDate between :from and :to
+            """)
+    List<Object[]> findDuplicateCandidates(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Returns id, name, department and hire date of the active employees
+     * of one department hired on one day: the block a new employee is
+     * checked against for duplicates.
+     */
+    @Query("""
+            select e.id, e.name, e.department, e.hireDate from Employee e
+             where e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+               and e.department = :department and e.hireDate = :hireDate
+            """)
+    List<Object[]> findDuplicateBlock(@Param("department") Department department, @Param("hireDate") LocalDate hireDate);
+
+    /**
+     * Returns the active direct reports of a manager.
+     */
+    @Query("""
+            select e from Employee e
+             where e.manager.id = :managerId and e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+            """)
+    Slice<Employee> findDirectReports(@Param("managerId") Long managerId, Pageable pageable);
+
+    @Query("""
+            select e from Employee e
+             where e.manager.id = :managerId and e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+            """)
+    List<Employee> findAllDirectReports(@Param("managerId") Long managerId);
+
+    /**
+     * Returns everyone below an employee, level by level, from one range scan
+     * of the hierarchy closure.  Terminated employees are removed from the
+     * closure, so only active ones are found.
+     */
+    @Query("""
+            select e from EmployeeHierarchy h join Employee e on e.id = h.descendantId
+             where h.ancestorId = :id and h.depth > 0 and e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+             order by h.depth, h.descendantId
+            """)
+    Slice<Employee> findSubtree(@Param("id") Long id, Pageable pageable);
+
+    @Query("select count(h) from EmployeeHierarchy h where h.ancestorId = :id and h.depth > 0")
+    long countSubtree(@Param("id") Long id);
+
+    /**
+     * Returns the managers above an employee, nearest first.
+     */
+    @Query("""
+            select e from EmployeeHierarchy h join Employee e on e.id = h.ancestorId
+             where h.descendantId = :id and h.depth > 0 and e.status = com.capstone.employeemanagement.model.EmployeeStatus.ACTIVE
+             order by h.depth
+            """)
+    List<Employee> findChainOfCommand(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.capstone.employeemanagement.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Custom query methods for {@link EmployeeRepository} that cannot be derived
+ * from method names.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Employee properties that may be requested through a sparse fieldset.
+     */
+    Set<String> SELECTABLE_FIELDS = Set.of("id", "name", "position", "department", "hireDate",
+            "status", "terminationDate");
+
+    /**
+     * Selects only the given properties of a page of employees, so the SQL
+     * projection contains just the requested columns.
+     *
+     * @param fields properties to select, in output order; each must be one
+     *               of {@link #SELECTABLE_FIELDS}
+     * @param pageable page and sort
+     * @param includeArchived whether terminated employees are included
+     * @return rows keyed by property name
+     */
+    Slice<Map<String, Object>> findFields(List<String> fields, Pageable pageable, boolean includeArchived);
+}
@@ -0,0 +1,69 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-based implementation of {@link EmployeeRepositoryCustom}.
+ */
+public class EmployeeRepositoryImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Map<String, Object>> findFields(List<String> fields, Pageable pageable, boolean includeArchived) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            if (!SELECTABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (!includeArchived) {
+            query.where(cb.equal(root.get("status"), EmployeeStatus.ACTIVE));
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            // one extra row tells whether a next page exists without counting
+            typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        }
+        List<Tuple> tuples = typedQuery.getResultList();
+        boolean hasNext = pageable.isPaged() && tuples.size() > pageable.getPageSize();
+        int rows = hasNext ? pageable.getPageSize() : tuples.size();
+        List<Map<String, Object>> content = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Tuple tuple = tuples.get(i);
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (String field : fields) {
+                row.put(field, tuple.get(field));
+            }
+            content.add(row);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
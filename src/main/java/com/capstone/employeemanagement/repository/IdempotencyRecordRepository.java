@@ -0,0 +1,84 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Repository for stored idempotent responses.  Claiming a key relies on the
+ * primary key so that only one instance can own a key at a time; an
+ * in-flight claim whose lease lapsed, or an expired response, can be taken
+ * over by the next claim.  Updates by the owner are fenced by its owner
+ * token and affect no row once the key was taken over.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Inserts an in-flight record, or takes over an existing one whose
+     * lease lapsed or whose response expired.  Rows without a lease were
+     * claimed by an instance that does not renew it and are left alone
+     * until they expire.
+     *
+     * @return 1 if the key was claimed, 0 if another request owns it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into idempotency_keys (id, request_hash, created_at, expires_at, locked_until, owner_token)
+            values (:id, :requestHash, :createdAt, :expiresAt, :lockedUntil, :ownerToken)
+            on conflict (id) do update
+               set request_hash = excluded.request_hash, response_status = null, content_type = null,
+                   response_body = null, created_at = excluded.created_at, expires_at = excluded.expires_at,
+                   locked_until = excluded.locked_until, owner_token = excluded.owner_token
+             where idempotency_keys.expires_at < excluded.created_at
+                or (idempotency_keys.response_status is null and idempotency_keys.locked_until < excluded.created_at)
+            """, nativeQuery = true)
+    int tryClaim(@Param("id") String id, @Param("requestHash") String requestHash,
+                 @Param("createdAt") Instant createdAt, @Param("expiresAt") Instant expiresAt,
+                 @Param("lockedUntil") Instant lockedUntil, @Param("ownerToken") String ownerToken);
+
+    /**
+     * Extends the leases of the given in-flight keys that are still held by
+     * one of the given owner tokens.  Tokens are unique per claim, so
+     * matching either list is enough to pair a key with its own token.
+     *
+     * @return the number of leases extended
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update IdempotencyRecord r set r.lockedUntil = :lockedUntil
+             where r.id in :ids and r.ownerToken in :ownerTokens and r.responseStatus is null
+            """)
+    int extendLeases(@Param("ids") Collection<String> ids, @Param("ownerTokens") Collection<String> ownerTokens,
+                     @Param("lockedUntil") Instant lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update IdempotencyRecord r
+               set r.responseStatus = :status, r.contentType = :contentType, r.responseBody = :body,
+                   r.lockedUntil = null
+             where r.id = :id and r.ownerToken = :ownerToken and r.responseStatus is null
+            """)
+    int complete(@Param("id") String id, @Param("ownerToken") String ownerToken, @Param("status") int status,
+                 @Param("contentType") String contentType, @Param("body") byte[] body);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.ownerToken = :ownerToken and r.responseStatus is null")
+    int release(@Param("id") String id, @Param("ownerToken") String ownerToken);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,39 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the transactional outbox.  Unpublished events are read in
+ * sequence order and the relay serialises itself across instances through a
+ * PostgreSQL advisory lock so that ordering is preserved globally.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+
+    /**
+     * Tries to take a transaction-scoped advisory lock.  Returns immediately
+     * with {@code false} if another transaction holds it.
+     */
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+}
@@ -0,0 +1,42 @@
+package com.capstone.employeemanagement.repository;
+
+import com.capstone.employeemanagement.model.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for refresh tokens.  Lookups during rotation lock the row so
+ * two concurrent refreshes with the same token cannot both succeed.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("select t.tenantId from RefreshToken t where t.tokenHash = :tokenHash")
+    Optional<String> findTenantId(@Param("tokenHash") String tokenHash);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from RefreshToken t join fetch t.user where t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findForUpdate(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("""
+            update RefreshToken t set t.revokedAt = :at
+             where t.familyId = :familyId and t.revokedAt is null
+            """)
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("at") Instant at);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -2,6 +2,8 @@ package com.capstone.employeemanagement.security;
 
 import com.capstone.employeemanagement.service.JwtService;
 import com.capstone.employeemanagement.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,42 +11,104 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
+/**
+ * Authenticates requests carrying a bearer access token and establishes the
+ * tenant they run for.  The token is parsed and verified once; its subject
+ * and role claim become the authentication, so no user lookup is needed per
+ * request.  Tokens issued before the role claim existed fall back to loading
+ * the user.  Invalid or expired tokens leave the request unauthenticated.
+ * <p>
+ * The tenant comes from the token's tenant claim; tokens without one belong
+ * to the default tenant.  Only login, which can only succeed for an account
+ * that already exists in the tenant, names its tenant in the
+ * {@code X-Tenant-Id} header.  Every other request without a valid token
+ * runs in the default tenant: registration takes its tenant from an invite
+ * and refresh from the refresh token, never from the client.  Invite tokens
+ * are not access tokens and leave the request unauthenticated.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String LOGIN_PATH = "/api/auth/login";
+
     private final JwtService jwtService;
     private final UserService userService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        Claims claims = parseToken(request);
+        String tenantId;
+        if (claims != null) {
+            tenantId = claims.get(JwtService.TENANT_CLAIM, String.class);
+        } else if (LOGIN_PATH.equals(request.getServletPath())) {
+            tenantId = request.getHeader(TenantContext.TENANT_HEADER);
+        } else {
+            tenantId = null;
+        }
+        if (tenantId == null) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        } else if (!TenantContext.isValid(tenantId)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid tenant id");
+            return;
+        }
+        TenantContext.setTenantId(tenantId);
+        request.setAttribute(TenantContext.REQUEST_ATTRIBUTE, tenantId);
+        try {
+            if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                authenticate(claims, request);
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private Claims parseToken(HttpServletRequest request) {
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         final String prefix = "Bearer ";
         if (authHeader == null || !authHeader.startsWith(prefix)) {
-            filterChain.doFilter(request, response);
+            return null;
+        }
+        try {
+            Claims claims = jwtService.extractAllClaims(authHeader.substring(prefix.length()));
+            return JwtService.isInvite(claims) ? null : claims;
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private void authenticate(Claims claims, HttpServletRequest request) {
+        String username = claims.getSubject();
+        if (username == null) {
             return;
         }
-        String token = authHeader.substring(prefix.length());
-        String username = jwtService.extractUsername(token);
-        // Set authentication only if not already authenticated and token is valid
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        UsernamePasswordAuthenticationToken authentication;
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        if (role != null) {
+            authentication = new UsernamePasswordAuthenticationToken(
+                    username, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        } else {
+            try {
+                UserDetails userDetails = userService.loadUserByUsername(username);
+                authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            } catch (UsernameNotFoundException ex) {
+                return;
             }
         }
-        filterChain.doFilter(request, response);
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
-}
\ No newline at end of file
+}
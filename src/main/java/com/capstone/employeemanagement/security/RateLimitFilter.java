@@ -0,0 +1,235 @@
+package com.capstone.employeemanagement.security;
+
+import com.capstone.employeemanagement.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket rate limiting per caller and endpoint group.  Authenticated
+ * requests are limited per user, everything else (including all of
+ * {@code /api/auth/**}) per client IP, so one misbehaving integration
+ * exhausts only its own budget.  Runs right after
+ * {@link JwtAuthenticationFilter} so the caller is already known.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival
+ * time of the next request (the GCRA formulation of a token bucket), updated
+ * with compare-and-set, so checks never lock.  Buckets that have refilled
+ * completely carry no state worth keeping and are evicted by a periodic
+ * sweep; when the table is at its size limit, new callers share one overflow
+ * bucket per group instead of growing it further.  Rejections are 429 with
+ * {@code Retry-After} and a body serialized once at startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String GRAPHQL_PATH = "/graphql";
+
+    /**
+     * Endpoint groups with separate limits.
+     */
+    enum Group {
+        AUTH, READ, WRITE
+    }
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${app.rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${app.rate-limit.auth.refill-per-second:0.2}")
+    private double authRefillPerSecond;
+
+    @Value("${app.rate-limit.read.capacity:200}")
+    private int readCapacity;
+
+    @Value("${app.rate-limit.read.refill-per-second:50}")
+    private double readRefillPerSecond;
+
+    @Value("${app.rate-limit.write.capacity:50}")
+    private int writeCapacity;
+
+    @Value("${app.rate-limit.write.refill-per-second:10}")
+    private double writeRefillPerSecond;
+
+    private final Map<Group, Limit> limits = new EnumMap<>(Group.class);
+    private final Map<Group, Bucket> overflowBuckets = new EnumMap<>(Group.class);
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private byte[] rejectionBody;
+
+    @PostConstruct
+    void init() throws JsonProcessingException {
+        limits.put(Group.AUTH, Limit.of(authCapacity, authRefillPerSecond));
+        limits.put(Group.READ, Limit.of(readCapacity, readRefillPerSecond));
+        limits.put(Group.WRITE, Limit.of(writeCapacity, writeRefillPerSecond));
+        for (Group group : Group.values()) {
+            overflowBuckets.put(group, new Bucket());
+        }
+        rejectionBody = objectMapper.writeValueAsBytes(ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(List.of("Rate limit exceeded; retry after the number of seconds in Retry-After"))
+                .build());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Group group = groupOf(request);
+        Limit limit = limits.get(group);
+        long waitNanos = bucketFor(callerKey(request, group), group).tryAcquire(limit, System.nanoTime());
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(rejectionBody.length);
+            response.getOutputStream().write(rejectionBody);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Number of requests rejected since startup.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Drops buckets that have refilled completely; they would admit the next
+     * request exactly like a new bucket.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate-limit buckets", evicted);
+        }
+    }
+
+    private Bucket bucketFor(String key, Group group) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflowBuckets.get(group);
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket());
+    }
+
+    private static Group groupOf(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/api/auth/")) {
+            return Group.AUTH;
+        }
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+            return Group.READ;
+        }
+        // the GraphQL schema has queries only, sent as POST
+        return GRAPHQL_PATH.equals(request.getRequestURI()) ? Group.READ : Group.WRITE;
+    }
+
+    private static String callerKey(HttpServletRequest request, Group group) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (group != Group.AUTH && authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "u:" + TenantContext.getTenantId() + ':' + authentication.getName() + ':' + group;
+        }
+        return "ip:" + request.getRemoteAddr() + ':' + group;
+    }
+
+    /**
+     * Bucket parameters in nanoseconds: one token is earned every
+     * {@code intervalNanos} and up to {@code capacity} tokens may be spent at
+     * once.
+     */
+    private record Limit(long intervalNanos, long burstNanos) {
+
+        static Limit of(int capacity, double refillPerSecond) {
+            long interval = (long) (Duration.ofSeconds(1).toNanos() / refillPerSecond);
+            return new Limit(interval, interval * capacity);
+        }
+    }
+
+    /**
+     * GCRA token bucket.  {@code tat} is the time at which the bucket will be
+     * full again; a request is admitted when that point is no more than the
+     * burst allowance in the future.
+     */
+    private static final class Bucket {
+
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        /**
+         * @return 0 if a token was taken, otherwise nanoseconds until one is
+         *         available
+         */
+        long tryAcquire(Limit limit, long now) {
+            while (true) {
+                long current = tat.get();
+                long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+                long next = base + limit.intervalNanos();
+                long excess = next - now - limit.burstNanos();
+                if (excess > 0) {
+                    return excess;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            long current = tat.get();
+            return current == Long.MIN_VALUE || current - now < 0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.capstone.employeemanagement.security;
+
+import java.util.regex.Pattern;
+
+/**
+ * Holds the tenant the current thread works for.  Set per request by
+ * {@link JwtAuthenticationFilter} from the token's tenant claim (or the
+ * {@code X-Tenant-Id} header on login) and read
+ * by Hibernate's tenant resolver, which restricts every query on tenant-owned
+ * entities to that tenant.  Code running on other threads must set and clear
+ * it explicitly; without a tenant the default tenant applies.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    /**
+     * Request attribute carrying the tenant past the filter that clears the
+     * thread-local, e.g. for request metrics recorded afterwards.
+     */
+    public static final String REQUEST_ATTRIBUTE = TenantContext.class.getName() + ".TENANT";
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[a-z0-9][a-z0-9_-]{0,63}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * The current tenant, or the default tenant if none is set.
+     */
+    public static String getTenantId() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public static void setTenantId(String tenantId) {
+        if (!isValid(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant id");
+        }
+        CURRENT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Whether the value is a well-formed tenant id: lower-case letters,
+     * digits, {@code -} and {@code _}, at most 64 characters.
+     */
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && VALID_TENANT.matcher(tenantId).matches();
+    }
+}
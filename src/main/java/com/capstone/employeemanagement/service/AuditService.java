@@ -0,0 +1,241 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.AuditAction;
+import com.capstone.employeemanagement.security.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit trail of employee and authentication operations.
+ * Callers only place a record into a lock-free ring buffer; a single
+ * background writer drains it and stores records with multi-row inserts, so
+ * auditing never adds a statement to the caller's transaction.  When the
+ * buffer is full the configured {@link OverflowPolicy} decides whether the
+ * record is dropped or the caller briefly waits for space.  Buffered records
+ * are flushed when the application shuts down.  Each record carries the
+ * tenant of the thread that created it.  Values longer than their columns,
+ * e.g. an identifier from a failed login, are truncated, and a batch the
+ * database keeps rejecting is retried row by row, so one bad record cannot
+ * take the rest of its batch with it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditService {
+
+    /**
+     * Behaviour when the audit buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the record and count it as dropped. */
+        DROP,
+        /** Wait up to the configured block timeout for space, then drop. */
+        BLOCK
+    }
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_log (occurred_at, tenant_id, action, actor, target, detail) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?)";
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_DETAIL_LENGTH = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.capacity:8192}")
+    private int capacity;
+
+    @Value("${app.audit.batch-size:256}")
+    private int batchSize;
+
+    @Value("${app.audit.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.audit.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${app.audit.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private MpscRingBuffer<AuditRecord> buffer;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        buffer = new MpscRingBuffer<>(capacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Records an operation immediately, independent of any transaction.  Used
+     * for events that must be kept even when the surrounding work fails, such
+     * as failed logins.
+     */
+    public void record(AuditAction action, String actor, String target, String detail) {
+        enqueue(new AuditRecord(Instant.now(), TenantContext.getTenantId(), action, actor, target, detail));
+    }
+
+    /**
+     * Records an operation once the current transaction commits, or right
+     * away when no transaction is active.  Rolled back changes leave no trace.
+     */
+    public void recordAfterCommit(AuditAction action, String actor, String target, String detail) {
+        AuditRecord record = new AuditRecord(Instant.now(), TenantContext.getTenantId(), action, actor, target, detail);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(record);
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the authenticated user on the current thread, or
+     * {@code null} for anonymous calls.
+     */
+    public String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Number of records discarded because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void enqueue(AuditRecord record) {
+        if (buffer.offer(record)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+            while (running && System.nanoTime() < deadline) {
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                if (buffer.offer(record)) {
+                    return;
+                }
+            }
+        }
+        if (dropped.incrementAndGet() % 1000 == 1) {
+            log.warn("Audit buffer full; {} records dropped so far", dropped.get());
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (DataAccessException ex) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    log.warn("Audit batch of {} records failed {} times; writing it row by row", batch.size(), attempt,
+                            ex);
+                } else {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+                }
+            }
+        }
+        for (AuditRecord record : batch) {
+            try {
+                insert(List.of(record));
+            } catch (DataAccessException ex) {
+                dropped.incrementAndGet();
+                log.error("Dropping audit record {} {}", record.action(), record.target(), ex);
+            }
+        }
+    }
+
+    private void insert(List<AuditRecord> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDERS.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 6];
+        int i = 0;
+        for (AuditRecord record : batch) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            args[i++] = Timestamp.from(record.occurredAt());
+            args[i++] = record.tenantId();
+            args[i++] = record.action().name();
+            args[i++] = record.actor();
+            args[i++] = record.target();
+            args[i++] = record.detail();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * Stops the writer once it has flushed the buffered records.  Runs after
+     * the web server has stopped and before the data source is closed.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (buffer.size() > 0) {
+            log.warn("{} audit records could not be flushed before shutdown", buffer.size());
+        }
+    }
+
+    private record AuditRecord(Instant occurredAt, String tenantId, AuditAction action, String actor, String target,
+                               String detail) {
+
+        AuditRecord {
+            actor = truncate(actor, MAX_NAME_LENGTH);
+            target = truncate(target, MAX_NAME_LENGTH);
+            detail = truncate(detail, MAX_DETAIL_LENGTH);
+        }
+
+        private static String truncate(String value, int maxLength) {
+            return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobType;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Carries out one type of {@link BulkJob}.  The {@link BulkJobRunner} drives
+ * a job as a sequence of chunks: it asks the session for the keys following
+ * the checkpoint and has them processed in one transaction, which also
+ * advances the checkpoint.  Keys must be positive and increasing, so the
+ * last key of a committed chunk is where the job resumes.
+ */
+public interface BulkJobHandler {
+
+    BulkJobType type();
+
+    /**
+     * Validates the parameters of a job about to be submitted.
+     *
+     * @throws IllegalArgumentException if the job cannot run
+     */
+    default void validate(String parameters) {
+    }
+
+    /**
+     * Starts or resumes a job on a worker.  Called outside a transaction,
+     * with the job's tenant and submitter set on the thread.
+     */
+    Session open(BulkJob job) throws IOException;
+
+    /**
+     * State of a job while a worker runs it.
+     */
+    interface Session extends AutoCloseable {
+
+        /**
+         * Number of rows the job processes in total.  Asked once, when the
+         * job first starts.
+         */
+        long countRows();
+
+        /**
+         * Keys of the next rows to process, in increasing order.
+         */
+        List<Long> nextKeys(long after, int limit);
+
+        /**
+         * Processes the rows with the given keys within the caller's
+         * transaction.  Throwing rolls the chunk back; the runner then
+         * processes its rows one at a time to isolate the failing ones.
+         */
+        void process(List<Long> keys) throws IOException;
+
+        /**
+         * Length of the job's output so far, stored with the checkpoint.
+         */
+        default long outputBytes() {
+            return 0;
+        }
+
+        /**
+         * Discards output written after the given length, after a chunk
+         * rolled back.
+         */
+        default void rewind(long outputBytes) throws IOException {
+        }
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobStatus;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.repository.BulkJobRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link BulkJob}s on a fixed number of worker threads.  A free worker
+ * claims the oldest queued job, or a running one whose lease expired because
+ * its worker or instance died, and drives it chunk by chunk.  Every chunk is
+ * one transaction that locks the job row, checks the lease is still held and
+ * no cancellation is pending, processes the next keys and advances the
+ * checkpoint, counters and lease together.  A chunk that fails is rolled back
+ * and its rows are retried one per transaction, so a bad row only fails
+ * itself.
+ * <p>
+ * Failures outside row processing (the database being unavailable, for
+ * example) leave the job running and release it for a retry after a delay;
+ * after {@code max-attempts} claims it is failed.  On shutdown workers stop
+ * after their current chunk and release their jobs for immediate resumption.
+ * <p>
+ * Finished jobs are kept for the {@code retention} period and then deleted
+ * along with their result files.
+ */
+@Slf4j
+@Component
+public class BulkJobRunner {
+
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final BulkJobRepository bulkJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobResultFiles jobResultFiles;
+    private final Map<BulkJobType, BulkJobHandler> handlers = new EnumMap<>(BulkJobType.class);
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final ExecutorService dispatcher;
+    private final Semaphore freeWorkers;
+    private volatile boolean stopping;
+
+    @Value("${app.jobs.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.jobs.lease:PT2M}")
+    private Duration lease;
+
+    @Value("${app.jobs.retry-delay:PT30S}")
+    private Duration retryDelay;
+
+    @Value("${app.jobs.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.jobs.retention:P7D}")
+    private Duration retention;
+
+    public BulkJobRunner(BulkJobRepository bulkJobRepository, TransactionTemplate transactionTemplate,
+                         JobResultFiles jobResultFiles, List<BulkJobHandler> handlers, MeterRegistry meterRegistry,
+                         @Value("${app.jobs.workers:2}") int workerCount) {
+        this.bulkJobRepository = bulkJobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jobResultFiles = jobResultFiles;
+        this.meterRegistry = meterRegistry;
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("bulk-job-", 1).factory());
+        this.dispatcher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("bulk-job-dispatcher").factory());
+        this.freeWorkers = new Semaphore(workerCount);
+    }
+
+    /**
+     * Starts queued work without waiting for the next poll.
+     */
+    public void dispatchSoon() {
+        try {
+            dispatcher.execute(this::dispatch);
+        } catch (RejectedExecutionException ex) {
+            // shutting down; the job waits in the table
+        }
+    }
+
+    /**
+     * Hands claimable jobs to free workers.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:2000}")
+    public synchronized void dispatch() {
+        while (!stopping && freeWorkers.tryAcquire()) {
+            Claim claim;
+            try {
+                claim = transactionTemplate.execute(status -> claimNext());
+            } catch (RuntimeException ex) {
+                freeWorkers.release();
+                log.warn("Unable to claim a bulk job", ex);
+                return;
+            }
+            if (claim == null) {
+                freeWorkers.release();
+                return;
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        run(claim);
+                    } finally {
+                        freeWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                freeWorkers.release();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Deletes jobs that finished more than the retention period ago, result
+     * file first, so a job whose file cannot be deleted stays listed and is
+     * retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.cleanup-interval-ms:3600000}")
+    public void purgeFinished() {
+        Instant before = Instant.now().minus(retention);
+        int removed = 0;
+        while (!stopping) {
+            List<UUID> expired = bulkJobRepository.findFinishedBefore(before, PageRequest.of(0, PURGE_BATCH_SIZE));
+            List<UUID> deleted = new ArrayList<>(expired.size());
+            for (UUID id : expired) {
+                try {
+                    jobResultFiles.delete(id);
+                    deleted.add(id);
+                } catch (IOException ex) {
+                    log.warn("Unable to delete the result file of bulk job {}", id, ex);
+                }
+            }
+            if (!deleted.isEmpty()) {
+                Integer count = transactionTemplate.execute(status -> bulkJobRepository.deleteByIds(deleted));
+                removed += count != null ? count : 0;
+            }
+            if (expired.size() < PURGE_BATCH_SIZE || deleted.size() < expired.size()) {
+                break;
+            }
+        }
+        if (removed > 0) {
+            log.debug("Purged {} finished bulk jobs", removed);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopping = true;
+        dispatcher.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Bulk jobs still running at shutdown; they resume once their lease expires");
+        }
+    }
+
+    private Claim claimNext() {
+        Instant now = Instant.now();
+        while (true) {
+            List<BulkJob> claimable = bulkJobRepository.findClaimable(now, PageRequest.of(0, 1));
+            if (claimable.isEmpty()) {
+                return null;
+            }
+            BulkJob job = claimable.get(0);
+            if (job.getAttempts() >= maxAttempts) {
+                job.setError("Gave up after " + job.getAttempts() + " attempts"
+                        + (job.getError() != null ? ": " + job.getError() : ""));
+                finish(job, BulkJobStatus.FAILED);
+                continue;
+            }
+            String owner = UUID.randomUUID().toString();
+            job.setStatus(BulkJobStatus.RUNNING);
+            job.setLeaseOwner(owner);
+            job.setLeaseExpiresAt(now.plus(lease));
+            job.setAttempts(job.getAttempts() + 1);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(now);
+            }
+            return new Claim(job.getId(), job.getTenantId(), job.getSubmittedBy(), job.getType(), owner);
+        }
+    }
+
+    private void run(Claim claim) {
+        TenantContext.setTenantId(claim.tenantId());
+        // the job acts for its submitter, e.g. as the creator of imported employees
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(claim.submittedBy(), null, List.of()));
+        try {
+            BulkJob job = transactionTemplate.execute(status -> bulkJobRepository.findById(claim.id()).orElseThrow());
+            BulkJobHandler handler = handlers.get(claim.type());
+            try (BulkJobHandler.Session session = handler.open(job)) {
+                if (job.getTotalRows() == null) {
+                    long total = session.countRows();
+                    transactionTemplate.executeWithoutResult(status -> lockOwned(claim).setTotalRows(total));
+                }
+                Progress progress = new Progress(job.getOutputBytes());
+                while (!progress.done) {
+                    if (stopping) {
+                        transactionTemplate.executeWithoutResult(status -> lockOwned(claim).setLeaseExpiresAt(Instant.now()));
+                        return;
+                    }
+                    runChunk(claim, session, progress);
+                }
+            }
+        } catch (LeaseLostException ex) {
+            log.info("Bulk job {} was taken over or finished elsewhere", claim.id());
+        } catch (Exception ex) {
+            log.warn("Bulk job {} failed; it will be retried", claim.id(), ex);
+            releaseForRetry(claim, ex);
+        } finally {
+            SecurityContextHolder.clearContext();
+            TenantContext.clear();
+        }
+    }
+
+    private void runChunk(Claim claim, BulkJobHandler.Session session, Progress progress) throws IOException {
+        List<Long> keys = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkJob job = lockOwned(claim);
+                if (job.isCancelRequested()) {
+                    finish(job, BulkJobStatus.CANCELLED);
+                    progress.done = true;
+                    return;
+                }
+                keys.addAll(session.nextKeys(job.getCheckpoint(), chunkSize));
+                if (keys.isEmpty()) {
+                    finish(job, BulkJobStatus.SUCCEEDED);
+                    progress.done = true;
+                    return;
+                }
+                long start = System.nanoTime();
+                process(session, keys);
+                advance(job, session, keys.get(keys.size() - 1), keys.size(), 0, start);
+            });
+            progress.outputBytes = session.outputBytes();
+        } catch (LeaseLostException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            progress.done = false;
+            if (keys.isEmpty()) {
+                throw ex;
+            }
+            session.rewind(progress.outputBytes);
+            log.debug("Chunk of bulk job {} failed; retrying its {} rows one at a time", claim.id(), keys.size(), ex);
+            for (Long key : keys) {
+                runSingle(claim, session, progress, key);
+            }
+        }
+    }
+
+    private void runSingle(Claim claim, BulkJobHandler.Session session, Progress progress, Long key) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkJob job = lockOwned(claim);
+                long start = System.nanoTime();
+                process(session, List.of(key));
+                advance(job, session, key, 1, 0, start);
+            });
+            progress.outputBytes = session.outputBytes();
+        } catch (LeaseLostException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            session.rewind(progress.outputBytes);
+            String message = rootMessage(ex);
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkJob job = lockOwned(claim);
+                advance(job, session, key, 1, 1, System.nanoTime());
+                job.setError(message);
+            });
+        }
+    }
+
+    private static void process(BulkJobHandler.Session session, List<Long> keys) {
+        try {
+            session.process(keys);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void advance(BulkJob job, BulkJobHandler.Session session, long checkpoint, int rows, int failed, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        job.setCheckpoint(checkpoint);
+        job.setOutputBytes(session.outputBytes());
+        job.setProcessedRows(job.getProcessedRows() + rows);
+        job.setFailedRows(job.getFailedRows() + failed);
+        job.setActiveMillis(job.getActiveMillis() + TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        job.setLeaseExpiresAt(Instant.now().plus(lease));
+        String type = job.getType().name();
+        meterRegistry.counter("bulk.jobs.rows", "type", type, "outcome", "processed").increment(rows - failed);
+        if (failed > 0) {
+            meterRegistry.counter("bulk.jobs.rows", "type", type, "outcome", "failed").increment(failed);
+        }
+        meterRegistry.timer("bulk.jobs.chunk", "type", type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void finish(BulkJob job, BulkJobStatus status) {
+        job.setStatus(status);
+        job.setFinishedAt(Instant.now());
+        job.setLeaseOwner(null);
+        job.setLeaseExpiresAt(null);
+        meterRegistry.counter("bulk.jobs.finished", "type", job.getType().name(), "status", status.name()).increment();
+        log.info("Bulk job {} ({}) {}: {} rows, {} failed, {} rows/s", job.getId(), job.getType(), status,
+                job.getProcessedRows(), job.getFailedRows(),
+                job.getActiveMillis() > 0 ? job.getProcessedRows() * 1000 / job.getActiveMillis() : job.getProcessedRows());
+    }
+
+    /**
+     * Records a job-level failure and makes the job claimable again after
+     * the retry delay.
+     */
+    private void releaseForRetry(Claim claim, Exception failure) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkJob job = lockOwned(claim);
+                job.setError(rootMessage(failure));
+                job.setLeaseExpiresAt(Instant.now().plus(retryDelay));
+            });
+        } catch (RuntimeException ex) {
+            log.debug("Unable to release bulk job {}; its lease will expire", claim.id(), ex);
+        }
+    }
+
+    /**
+     * Locks the job row and checks that this claim still owns it.
+     */
+    private BulkJob lockOwned(Claim claim) {
+        BulkJob job = bulkJobRepository.findForUpdate(claim.id()).orElseThrow(LeaseLostException::new);
+        if (job.getStatus() != BulkJobStatus.RUNNING || !claim.owner().equals(job.getLeaseOwner())) {
+            throw new LeaseLostException();
+        }
+        return job;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private record Claim(UUID id, String tenantId, String submittedBy, BulkJobType type, String owner) {
+    }
+
+    /**
+     * Output length of a running job as of its last committed chunk, and
+     * whether the job has reached a final status.
+     */
+    private static final class Progress {
+
+        private long outputBytes;
+        private boolean done;
+
+        Progress(long outputBytes) {
+            this.outputBytes = outputBytes;
+        }
+    }
+
+    /**
+     * The claim no longer owns the job: it was cancelled while queued,
+     * finished, or taken over after the lease expired.
+     */
+    private static final class LeaseLostException extends RuntimeException {
+
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.dto.JobResponse;
+import com.capstone.employeemanagement.dto.TransferJobRequest;
+import com.capstone.employeemanagement.exception.ConflictException;
+import com.capstone.employeemanagement.exception.JobNotFoundException;
+import com.capstone.employeemanagement.model.AuditAction;
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobStatus;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.repository.BulkJobRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Submission, status and cancellation of bulk jobs.  Submitting only stores
+ * the job; {@link BulkJobRunner} picks it up on a worker thread once the
+ * submitting transaction commits.  Jobs are visible to their tenant only.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkJobService {
+
+    private final BulkJobRepository bulkJobRepository;
+    private final BulkJobRunner bulkJobRunner;
+    private final List<BulkJobHandler> handlers;
+    private final JobResultFiles jobResultFiles;
+    private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public JobResponse submitImport(List<EmployeeRequest> employees) {
+        return submit(BulkJobType.IMPORT, toJson(employees));
+    }
+
+    @Transactional
+    public JobResponse submitExport() {
+        return submit(BulkJobType.EXPORT, null);
+    }
+
+    @Transactional
+    public JobResponse submitDuplicateScan() {
+        return submit(BulkJobType.DUPLICATES, null);
+    }
+
+    @Transactional
+    public JobResponse submitTransfer(TransferJobRequest request) {
+        return submit(BulkJobType.TRANSFER, toJson(request));
+    }
+
+    /**
+     * Returns the status and progress of a job.
+     *
+     * @throws JobNotFoundException if the tenant has no such job
+     */
+    @Transactional(readOnly = true)
+    public JobResponse getJob(UUID id) {
+        return toJobResponse(bulkJobRepository.findByIdAndTenantId(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new JobNotFoundException(id)));
+    }
+
+    /**
+     * Cancels a job.  A queued job is cancelled at once; a running one
+     * stops before its next chunk, keeping the chunks already committed.
+     *
+     * @throws JobNotFoundException if the tenant has no such job
+     * @throws ConflictException if the job has already finished
+     */
+    @Transactional
+    public JobResponse cancel(UUID id) {
+        BulkJob job = bulkJobRepository.findForUpdate(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new JobNotFoundException(id));
+        if (job.getStatus().isFinished()) {
+            throw new ConflictException("Job has already finished");
+        }
+        if (job.getStatus() == BulkJobStatus.QUEUED) {
+            job.setStatus(BulkJobStatus.CANCELLED);
+            job.setFinishedAt(Instant.now());
+        } else {
+            job.setCancelRequested(true);
+        }
+        auditService.recordAfterCommit(AuditAction.BULK_JOB_CANCELLED, auditService.currentActor(), jobTarget(id), null);
+        return toJobResponse(job);
+    }
+
+    /**
+     * Returns the file written by a completed export or duplicate scan.
+     *
+     * @throws JobNotFoundException if the tenant has no such job
+     * @throws ConflictException if the job has not succeeded or writes no file
+     */
+    @Transactional(readOnly = true)
+    public Path getResultFile(UUID id) {
+        BulkJob job = bulkJobRepository.findByIdAndTenantId(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new JobNotFoundException(id));
+        if (!job.getType().producesFile() || job.getStatus() != BulkJobStatus.SUCCEEDED) {
+            throw new ConflictException("Job has no result");
+        }
+        Path file = jobResultFiles.file(id);
+        if (!Files.isReadable(file)) {
+            throw new ConflictException("Job result is not available on this instance");
+        }
+        return file;
+    }
+
+    private JobResponse submit(BulkJobType type, String parameters) {
+        handlers.stream()
+                .filter(handler -> handler.type() == type)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No handler for " + type))
+                .validate(parameters);
+        BulkJob job = bulkJobRepository.save(BulkJob.builder()
+                .id(UUID.randomUUID())
+                .tenantId(TenantContext.getTenantId())
+                .type(type)
+                .status(BulkJobStatus.QUEUED)
+                .submittedBy(auditService.currentActor())
+                .parameters(parameters)
+                .createdAt(Instant.now())
+                .build());
+        auditService.recordAfterCommit(AuditAction.BULK_JOB_SUBMITTED, auditService.currentActor(), jobTarget(job.getId()),
+                type.name());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bulkJobRunner.dispatchSoon();
+            }
+        });
+        return toJobResponse(job);
+    }
+
+    private String toJson(Object parameters) {
+        try {
+            return objectMapper.writeValueAsString(parameters);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid job parameters", ex);
+        }
+    }
+
+    private static String jobTarget(UUID id) {
+        return "job:" + id;
+    }
+
+    private JobResponse toJobResponse(BulkJob job) {
+        Double percent = job.getTotalRows() == null ? null
+                : job.getTotalRows() == 0 ? 100.0 : Math.min(100.0, 100.0 * job.getProcessedRows() / job.getTotalRows());
+        Double rowsPerSecond = job.getActiveMillis() > 0 ? job.getProcessedRows() * 1000.0 / job.getActiveMillis() : null;
+        boolean hasResult = job.getType().producesFile() && job.getStatus() == BulkJobStatus.SUCCEEDED;
+        return JobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .totalRows(job.getTotalRows())
+                .processedRows(job.getProcessedRows())
+                .failedRows(job.getFailedRows())
+                .percentComplete(percent)
+                .rowsPerSecond(rowsPerSecond)
+                .cancelRequested(job.isCancelRequested())
+                .error(job.getError())
+                .resultPath(hasResult ? "/api/jobs/" + job.getId() + "/result" : null)
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
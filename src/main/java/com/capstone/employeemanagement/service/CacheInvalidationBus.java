@@ -0,0 +1,218 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the in-process employee caches of all instances consistent, using
+ * PostgreSQL {@code LISTEN/NOTIFY} on the primary.  Writers record the
+ * employees they change; just before the transaction commits, the changes
+ * are sent as one notification per tenant, so a rolled back transaction
+ * sends nothing and NOTIFY's commit-time lock is taken once per transaction
+ * rather than once per row.  Transactions touching more than
+ * {@code max-keys} employees of a tenant send a flush of that tenant instead.
+ * <p>
+ * Every instance receives them through the shared
+ * {@link NotificationListener}.  Notifications arriving within its
+ * coalescing window are merged before local entries are evicted, so a burst
+ * of writes costs one eviction pass.  Notifications sent while the listener
+ * is disconnected are lost; after it reconnects, the local caches are
+ * flushed entirely.
+ * <p>
+ * Payloads have the form {@code <node> <tenant> <id>:<version>,...} or
+ * {@code <node> <tenant> *}.  An instance ignores its own notifications,
+ * since its caches are updated directly.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements NotificationHandler {
+
+    static final String CHANNEL = "employee_cache";
+
+    private static final String TENANT_FLUSH = "*";
+
+    private final EmployeeJsonCache employeeJsonCache;
+    private final EmployeeDirectorySnapshot directorySnapshot;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = Long.toString(UUID.randomUUID().getMostSignificantBits() >>> 1, 36);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.cache-invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache-invalidation.max-keys:200}")
+    private int maxKeys;
+
+    public CacheInvalidationBus(EmployeeJsonCache employeeJsonCache, EmployeeDirectorySnapshot directorySnapshot,
+                                MeterRegistry meterRegistry) {
+        this.employeeJsonCache = employeeJsonCache;
+        this.directorySnapshot = directorySnapshot;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records an employee written in the current transaction, to be
+     * announced to the other instances when the transaction commits.
+     * Outside a transaction nothing is sent.
+     *
+     * @param employee the flushed entity
+     */
+    public void publish(Employee employee) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pendingForTransaction().add(employee.getTenantId(), employee.getId(), employee.getVersion());
+    }
+
+    private Pending pendingForTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Pending pending && pending.bus() == this) {
+                return pending;
+            }
+        }
+        Pending pending = new Pending();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void send(List<String> payloads) {
+        NotificationListener.notify(entityManager, CHANNEL, payloads);
+        meterRegistry.counter("cache.invalidation.sent").increment(payloads.size());
+    }
+
+    @Override
+    public void onNotifications(List<String> payloads, Connection connection) {
+        Batch batch = new Batch();
+        batch.add(payloads);
+        batch.apply();
+    }
+
+    @Override
+    public void onReconnect() {
+        log.info("Cache invalidation notifications may have been missed; flushing local caches");
+        flushAll();
+    }
+
+    private void flushAll() {
+        employeeJsonCache.clear();
+        directorySnapshot.expire();
+        meterRegistry.counter("cache.invalidation.flushes", "scope", "all").increment();
+    }
+
+    /**
+     * Employees changed by one transaction, by tenant.
+     */
+    private final class Pending implements TransactionSynchronization {
+
+        private final Map<String, Map<Long, Long>> versions = new LinkedHashMap<>();
+
+        CacheInvalidationBus bus() {
+            return CacheInvalidationBus.this;
+        }
+
+        void add(String tenantId, Long id, long version) {
+            versions.computeIfAbsent(tenantId, tenant -> new LinkedHashMap<>()).merge(id, version, Math::max);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            List<String> payloads = new ArrayList<>();
+            versions.forEach((tenantId, changed) -> {
+                String prefix = nodeId + ' ' + tenantId + ' ';
+                if (changed.size() > maxKeys) {
+                    payloads.add(prefix + TENANT_FLUSH);
+                    return;
+                }
+                List<String> keys = new ArrayList<>(changed.size());
+                changed.forEach((id, version) -> keys.add(id + ":" + version));
+                payloads.addAll(NotificationListener.payloads(prefix, keys));
+            });
+            send(payloads);
+        }
+    }
+
+    /**
+     * Notifications received together, merged so each tenant and employee
+     * is evicted once.
+     */
+    private final class Batch {
+
+        private final Map<String, Map<Long, Long>> versions = new HashMap<>();
+        private final Set<String> flushedTenants = new HashSet<>();
+        private int received;
+
+        void add(List<String> payloads) {
+            for (String payload : payloads) {
+                String[] parts = payload.split(" ", 3);
+                if (parts.length != 3 || parts[0].equals(nodeId)) {
+                    continue;
+                }
+                received++;
+                String tenantId = parts[1];
+                if (parts[2].equals(TENANT_FLUSH)) {
+                    flushedTenants.add(tenantId);
+                    continue;
+                }
+                Map<Long, Long> changed = versions.computeIfAbsent(tenantId, tenant -> new HashMap<>());
+                try {
+                    for (String key : parts[2].split(",")) {
+                        int separator = key.indexOf(':');
+                        changed.merge(Long.parseLong(key, 0, separator, 10),
+                                Long.parseLong(key, separator + 1, key.length(), 10), Math::max);
+                    }
+                } catch (RuntimeException ex) {
+                    log.debug("Ignoring malformed cache invalidation '{}'", payload, ex);
+                    flushedTenants.add(tenantId);
+                }
+            }
+        }
+
+        void apply() {
+            if (received == 0) {
+                return;
+            }
+            for (String tenantId : flushedTenants) {
+                employeeJsonCache.invalidateTenant(tenantId);
+                directorySnapshot.invalidateTenant(tenantId);
+                versions.remove(tenantId);
+            }
+            versions.forEach((tenantId, changed) -> {
+                // tombstones carry the new version, so a concurrent reader
+                // cannot put an older document back
+                changed.forEach((id, version) -> employeeJsonCache.invalidate(tenantId, id, version));
+                directorySnapshot.refresh(tenantId, changed);
+            });
+            meterRegistry.counter("cache.invalidation.received").increment(received);
+            meterRegistry.counter("cache.invalidation.flushes", "scope", "tenant").increment(flushedTenants.size());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.dto.EmployeeResponse;
+import com.capstone.employeemanagement.dto.TransferJobRequest;
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves every active employee of one department to another, optionally
+ * giving them a new position.  Walks the department in id order; moved
+ * employees no longer match, so a resumed job only sees the rest.  Each
+ * employee is changed through {@link EmployeeService#updateEmployee}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepartmentTransferJobHandler implements BulkJobHandler {
+
+    private final EmployeeService employeeService;
+    private final EmployeeRepository employeeRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.TRANSFER;
+    }
+
+    @Override
+    public void validate(String parameters) {
+        TransferJobRequest request = parse(parameters);
+        if (request.getFromDepartment() == request.getToDepartment()) {
+            throw new IllegalArgumentException("Source and target department must differ");
+        }
+        if (request.getPosition() != null && request.getPosition().isBlank()) {
+            throw new IllegalArgumentException("Position must not be blank");
+        }
+    }
+
+    @Override
+    public Session open(BulkJob job) {
+        TransferJobRequest transfer = parse(job.getParameters());
+        return new Session() {
+            @Override
+            public long countRows() {
+                return employeeRepository.countByStatusAndDepartment(EmployeeStatus.ACTIVE, transfer.getFromDepartment());
+            }
+
+            @Override
+            public List<Long> nextKeys(long after, int limit) {
+                return employeeRepository.findActiveIdsInDepartmentAfter(transfer.getFromDepartment(), after,
+                        PageRequest.of(0, limit));
+            }
+
+            @Override
+            public void process(List<Long> keys) {
+                for (Long id : keys) {
+                    EmployeeResponse employee = employeeService.getEmployeeById(id);
+                    EmployeeRequest request = new EmployeeRequest();
+                    request.setName(employee.getName());
+                    request.setPosition(transfer.getPosition() != null ? transfer.getPosition() : employee.getPosition());
+                    request.setDepartment(transfer.getToDepartment());
+                    request.setHireDate(employee.getHireDate());
+                    request.setManagerId(employee.getManagerId());
+                    employeeService.updateEmployee(id, request);
+                }
+            }
+        };
+    }
+
+    private TransferJobRequest parse(String parameters) {
+        try {
+            return objectMapper.readValue(parameters, TransferJobRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid transfer parameters", ex);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scans all active employees for likely duplicates and writes merge
+ * suggestions to a CSV file.  The scan walks the distinct hire dates in
+ * order, so the job's rows are hire dates rather than employees; every
+ * chunk loads the employees of its dates and hands them to
+ * {@link DuplicateDetector}, which only compares employees sharing a hire
+ * date and department, so no block spans two chunks.
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicateDetectionJobHandler implements BulkJobHandler {
+
+    private static final String HEADER = "keepId,mergeId,department,hireDate,score,keepName,mergeName\n";
+
+    /**
+     * Keys are hire dates as epoch days plus this offset, which keeps them
+     * positive for any plausible hire date.
+     */
+    private static final long KEY_OFFSET = 1_000_000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DuplicateDetector duplicateDetector;
+    private final JobResultFiles jobResultFiles;
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.DUPLICATES;
+    }
+
+    @Override
+    public Session open(BulkJob job) throws IOException {
+        JobResultFiles.CsvFile file = jobResultFiles.open(job, HEADER);
+        return new Session() {
+            @Override
+            public long countRows() {
+                return employeeRepository.countActiveHireDates();
+            }
+
+            @Override
+            public List<Long> nextKeys(long after, int limit) {
+                PageRequest page = PageRequest.of(0, limit);
+                List<LocalDate> dates = after == 0 ? employeeRepository.findActiveHireDates(page)
+                        : employeeRepository.findActiveHireDatesAfter(LocalDate.ofEpochDay(after - KEY_OFFSET), page);
+                return dates.stream().map(date -> date.toEpochDay() + KEY_OFFSET).toList();
+            }
+
+            @Override
+            public void process(List<Long> keys) throws IOException {
+                List<DuplicateDetector.Candidate> candidates = employeeRepository.findDuplicateCandidates(
+                                LocalDate.ofEpochDay(keys.get(0) - KEY_OFFSET),
+                                LocalDate.ofEpochDay(keys.get(keys.size() - 1) - KEY_OFFSET))
+                        .stream()
+                        .map(DuplicateDetectionJobHandler::toCandidate)
+                        .toList();
+                StringBuilder csv = new StringBuilder();
+                for (DuplicateDetector.Match match : duplicateDetector.findDuplicates(candidates)) {
+                    csv.append(match.kept().id()).append(',')
+                            .append(match.duplicate().id()).append(',')
+                            .append(match.kept().department()).append(',')
+                            .append(match.kept().hireDate()).append(',')
+                            .append(String.format(Locale.ROOT, "%.3f", match.score())).append(',')
+                            .append(JobResultFiles.quote(match.kept().name())).append(',')
+                            .append(JobResultFiles.quote(match.duplicate().name()))
+                            .append('\n');
+                }
+                if (!csv.isEmpty()) {
+                    file.append(csv);
+                }
+            }
+
+            @Override
+            public long outputBytes() {
+                return file.length();
+            }
+
+            @Override
+            public void rewind(long outputBytes) throws IOException {
+                file.rewind(outputBytes);
+            }
+
+            @Override
+            public void close() throws IOException {
+                file.close();
+            }
+        };
+    }
+
+    static DuplicateDetector.Candidate toCandidate(Object[] row) {
+        return new DuplicateDetector.Candidate((Long) row[0], (String) row[1], (Department) row[2], (LocalDate) row[3]);
+    }
+}
@@ -0,0 +1,290 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.Department;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
+
+/**
+ * Finds likely duplicate employees.  Only employees in the same block, i.e.
+ * hired on the same day into the same department, are compared, which turns
+ * the quadratic comparison of every pair into comparisons within small
+ * groups.  The blocks of a batch are cut into slices of roughly equal work
+ * and scored on a dedicated fork-join pool, so a scan uses every core
+ * without competing with the common pool.
+ * <p>
+ * Names are normalized (case, accents, punctuation and spacing removed) and
+ * compared with the Jaro-Winkler similarity, both as written and with their
+ * words sorted, so "Smith, John" matches "john smith".  Pairs whose lengths
+ * alone rule out reaching the threshold are skipped without scoring.
+ */
+@Component
+public class DuplicateDetector {
+
+    /**
+     * Name comparisons per slice of work; small blocks are packed together
+     * and large ones split, so tasks are neither trivial nor unbalanced.
+     */
+    private static final int SLICE_COMPARISONS = 4096;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ForkJoinPool pool;
+
+    @Value("${app.duplicates.threshold:0.92}")
+    private double threshold;
+
+    public DuplicateDetector(@Value("${app.duplicates.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("duplicate-detection-" + thread.getPoolIndex());
+                    return thread;
+                }, null, false);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * An employee as far as duplicate detection is concerned.
+     */
+    public record Candidate(long id, String name, Department department, LocalDate hireDate) {
+    }
+
+    /**
+     * A likely duplicate: {@code duplicate} should be merged into
+     * {@code kept}, the older record.
+     */
+    public record Match(Candidate kept, Candidate duplicate, double score) {
+    }
+
+    /**
+     * Finds the likely duplicates among the given employees, ordered by
+     * hire date, department and ids.
+     */
+    public List<Match> findDuplicates(List<Candidate> candidates) {
+        Map<Block, List<Prepared>> blocks = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            blocks.computeIfAbsent(new Block(candidate.department(), candidate.hireDate()), block -> new ArrayList<>())
+                    .add(new Prepared(candidate));
+        }
+        List<List<Segment>> slices = new ArrayList<>();
+        List<Segment> slice = new ArrayList<>();
+        int cost = 0;
+        for (List<Prepared> members : blocks.values()) {
+            if (members.size() < 2) {
+                continue;
+            }
+            Prepared[] block = members.toArray(Prepared[]::new);
+            int start = 0;
+            for (int i = 0; i < block.length - 1; i++) {
+                cost += block.length - 1 - i;
+                if (cost >= SLICE_COMPARISONS) {
+                    slice.add(new Segment(block, start, i + 1));
+                    slices.add(slice);
+                    slice = new ArrayList<>();
+                    cost = 0;
+                    start = i + 1;
+                }
+            }
+            if (start < block.length - 1) {
+                slice.add(new Segment(block, start, block.length - 1));
+            }
+        }
+        if (!slice.isEmpty()) {
+            slices.add(slice);
+        }
+        if (slices.isEmpty()) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>(pool.invoke(new ScoreTask(slices, 0, slices.size())));
+        matches.sort(Comparator.<Match, LocalDate>comparing(match -> match.kept().hireDate())
+                .thenComparing(match -> match.kept().department())
+                .thenComparingLong(match -> match.kept().id())
+                .thenComparingLong(match -> match.duplicate().id()));
+        return matches;
+    }
+
+    /**
+     * Finds the existing employees a new one would likely duplicate.  The
+     * existing employees are expected to be the new one's block.
+     */
+    public List<Match> findMatches(Candidate incoming, List<Candidate> existing) {
+        Prepared prepared = new Prepared(incoming);
+        List<Match> matches = new ArrayList<>();
+        for (Candidate candidate : existing) {
+            double score = score(new Prepared(candidate), prepared);
+            if (score >= threshold) {
+                matches.add(new Match(candidate, incoming, score));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    private double score(Prepared a, Prepared b) {
+        int shorter = Math.min(a.normalized.length, b.normalized.length);
+        int longer = Math.max(a.normalized.length, b.normalized.length);
+        // Jaro is at most (2 + shorter / longer) / 3 and the prefix bonus
+        // closes at most 40% of the remaining gap
+        if (longer > 0 && 0.6 * (2 + (double) shorter / longer) / 3 + 0.4 < threshold) {
+            return 0;
+        }
+        double score = jaroWinkler(a.normalized, b.normalized);
+        if (score < threshold && (a.reordered != null || b.reordered != null)) {
+            score = Math.max(score, jaroWinkler(a.sorted(), b.sorted()));
+        }
+        return score;
+    }
+
+    /**
+     * Jaro-Winkler similarity with the standard prefix scale of 0.1 over at
+     * most four characters.
+     */
+    static double jaroWinkler(char[] a, char[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return a.length == b.length ? 1 : 0;
+        }
+        int window = Math.max(0, Math.max(a.length, b.length) / 2 - 1);
+        boolean[] aMatched = new boolean[a.length];
+        boolean[] bMatched = new boolean[b.length];
+        int matches = 0;
+        for (int i = 0; i < a.length; i++) {
+            int end = Math.min(b.length - 1, i + window);
+            for (int j = Math.max(0, i - window); j <= end; j++) {
+                if (!bMatched[j] && a[i] == b[j]) {
+                    aMatched[i] = true;
+                    bMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length; i++) {
+            if (aMatched[i]) {
+                while (!bMatched[j]) {
+                    j++;
+                }
+                if (a[i] != b[j]) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+        double m = matches;
+        double jaro = (m / a.length + m / b.length + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        int maxPrefix = Math.min(4, Math.min(a.length, b.length));
+        while (prefix < maxPrefix && a[prefix] == b[prefix]) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    static String normalize(String name) {
+        String stripped = MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private record Block(Department department, LocalDate hireDate) {
+    }
+
+    /**
+     * A candidate with its normalized name.  {@code reordered} holds the
+     * name with its words sorted, or {@code null} if that is the same.
+     */
+    private static final class Prepared {
+
+        private final Candidate candidate;
+        private final char[] normalized;
+        private final char[] reordered;
+
+        Prepared(Candidate candidate) {
+            this.candidate = candidate;
+            String name = normalize(candidate.name());
+            String[] words = name.split(" ");
+            Arrays.sort(words);
+            String sorted = String.join(" ", words);
+            this.normalized = name.toCharArray();
+            this.reordered = sorted.equals(name) ? null : sorted.toCharArray();
+        }
+
+        char[] sorted() {
+            return reordered != null ? reordered : normalized;
+        }
+    }
+
+    /**
+     * Compares rows {@code from} (inclusive) to {@code to} (exclusive) of a
+     * block with every later row of the block.
+     */
+    private record Segment(Prepared[] block, int from, int to) {
+    }
+
+    private final class ScoreTask extends RecursiveTask<List<Match>> {
+
+        private final List<List<Segment>> slices;
+        private final int from;
+        private final int to;
+
+        ScoreTask(List<List<Segment>> slices, int from, int to) {
+            this.slices = slices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Match> compute() {
+            if (to - from == 1) {
+                return scoreSlice(slices.get(from));
+            }
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(slices, from, middle);
+            left.fork();
+            List<Match> right = new ScoreTask(slices, middle, to).compute();
+            List<Match> matches = left.join();
+            matches.addAll(right);
+            return matches;
+        }
+
+        private List<Match> scoreSlice(List<Segment> segments) {
+            List<Match> matches = new ArrayList<>();
+            for (Segment segment : segments) {
+                Prepared[] block = segment.block();
+                for (int i = segment.from(); i < segment.to(); i++) {
+                    for (int j = i + 1; j < block.length; j++) {
+                        double score = score(block[i], block[j]);
+                        if (score >= threshold) {
+                            Candidate a = block[i].candidate;
+                            Candidate b = block[j].candidate;
+                            matches.add(a.id() < b.id() ? new Match(a, b, score) : new Match(b, a, score));
+                        }
+                    }
+                }
+            }
+            return matches;
+        }
+    }
+}
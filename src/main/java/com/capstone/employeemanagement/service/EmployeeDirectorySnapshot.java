@@ -0,0 +1,530 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeResponse;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-memory copy of the active employees of each tenant, stored
+ * column by column, from which employee list pages are served without a
+ * database query.  Ids, versions, manager ids and hire dates (as epoch days)
+ * are primitive arrays; departments are stored as ordinals, positions as
+ * codes into a per-tenant dictionary, and names are interned.  Rows are kept
+ * in id order, so sorting by id needs no permutation; for every other
+ * sortable property a permutation of the rows is built on first use and kept
+ * until the next change.
+ * <p>
+ * A tenant's directory is loaded on its first listing and then updated from
+ * the changes {@link EmployeeService} commits.  Changes are applied after
+ * commit and only if newer than the row they replace, so callbacks that run
+ * out of order cannot regress a row.  Changes committed by other instances
+ * arrive through {@link CacheInvalidationBus} as ids and versions; only the
+ * rows that are behind are read again.  As a backstop against missed
+ * notifications every directory is dropped and reloaded after the refresh
+ * interval.
+ * <p>
+ * Names are ordered case-insensitively, which can differ from the database
+ * collation for accented names.  Listings the snapshot cannot answer
+ * (archived rows, sparse fieldsets, sorting by several properties) fall back
+ * to the database.
+ */
+@Slf4j
+@Component
+public class EmployeeDirectorySnapshot {
+
+    /**
+     * Departments ranked by name, which is how the database sorts the
+     * enumeration column.
+     */
+    private static final int[] DEPARTMENT_RANK = departmentRanks();
+
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Beyond this many changed employees a directory is reloaded rather than
+     * patched.
+     */
+    private static final int MAX_REFRESHED_ROWS = 1000;
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Directory> directories = new ConcurrentHashMap<>();
+
+    @Value("${app.directory-snapshot.enabled:false}")
+    private boolean enabled;
+
+    public EmployeeDirectorySnapshot(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        // a new read-write transaction, so the load runs on the primary, which
+        // has every committed change, rather than on a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns a page of the current tenant's active employees, or empty if
+     * the snapshot is disabled or cannot apply the requested sort.
+     *
+     * @param pageable pagination and sorting information
+     * @param includeTotal whether to include the total counts
+     * @return the page, or empty to query the database instead
+     */
+    public Optional<PageResponse<EmployeeResponse>> findPage(Pageable pageable, boolean includeTotal) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Column column = Column.ID;
+        boolean ascending = true;
+        List<Sort.Order> orders = pageable.getSort().toList();
+        if (orders.size() > 1) {
+            return Optional.empty();
+        }
+        if (orders.size() == 1) {
+            column = Column.forProperty(orders.get(0).getProperty());
+            if (column == null || orders.get(0).isIgnoreCase()) {
+                return Optional.empty();
+            }
+            ascending = orders.get(0).isAscending();
+        }
+        Directory directory = directories.computeIfAbsent(TenantContext.getTenantId(), tenant -> new Directory());
+        return Optional.of(directory.page(column, ascending, pageable, includeTotal));
+    }
+
+    /**
+     * Records the state of an employee written in the current transaction,
+     * to be applied once the transaction commits.  Terminated employees are
+     * removed from the directory.
+     *
+     * @param employee the flushed entity
+     */
+    public void recordAfterCommit(Employee employee) {
+        if (!enabled) {
+            return;
+        }
+        Change change = new Change(employee.getId(), employee.getVersion(), employee.getStatus() == EmployeeStatus.ACTIVE,
+                employee.getName(), employee.getPosition(), employee.getDepartment(), employee.getHireDate(),
+                employee.getManager() != null ? employee.getManager().getId() : null);
+        String tenantId = employee.getTenantId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(tenantId, change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(tenantId, change);
+            }
+        });
+    }
+
+    /**
+     * Drops every loaded directory so the next listing reloads it, which
+     * picks up changes made through other instances.  Requests still reading
+     * a dropped directory finish on it undisturbed.
+     */
+    @Scheduled(fixedDelayString = "${app.directory-snapshot.refresh-interval-ms:300000}")
+    public void expire() {
+        if (enabled) {
+            directories.clear();
+        }
+    }
+
+    /**
+     * Drops the loaded directory of a tenant, e.g. after another instance
+     * changed too many of its employees to announce them one by one.
+     */
+    public void invalidateTenant(String tenantId) {
+        if (enabled) {
+            directories.remove(tenantId);
+        }
+    }
+
+    /**
+     * Brings the loaded directory of a tenant up to date with changes made
+     * through another instance.  Rows already at or past the announced
+     * version are left alone; the others are read again from the primary.
+     * Runs on the caller's thread, which must not have a tenant set.
+     *
+     * @param tenantId the tenant of the changed employees
+     * @param versions announced versions by employee id
+     */
+    public void refresh(String tenantId, Map<Long, Long> versions) {
+        if (!enabled) {
+            return;
+        }
+        Directory directory = directories.get(tenantId);
+        if (directory == null) {
+            return;
+        }
+        List<Long> stale = directory.staleIds(versions);
+        if (stale.isEmpty()) {
+            return;
+        }
+        if (stale.size() > MAX_REFRESHED_ROWS) {
+            directories.remove(tenantId, directory);
+            return;
+        }
+        TenantContext.setTenantId(tenantId);
+        try {
+            List<Object[]> rows = transactionTemplate.execute(status -> employeeRepository.findDirectoryChanges(stale));
+            for (Object[] row : rows) {
+                directory.apply(new Change((Long) row[0], (Long) row[1], row[2] == EmployeeStatus.ACTIVE,
+                        (String) row[3], (String) row[4], (Department) row[5], (LocalDate) row[6], (Long) row[7]));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh the directory snapshot of tenant {}; dropping it", tenantId, ex);
+            directories.remove(tenantId, directory);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void apply(String tenantId, Change change) {
+        Directory directory = directories.get(tenantId);
+        if (directory != null) {
+            directory.apply(change);
+        }
+    }
+
+    private static int[] departmentRanks() {
+        Department[] byName = Department.values().clone();
+        Arrays.sort(byName, Comparator.comparing(Department::name));
+        int[] ranks = new int[byName.length];
+        for (int rank = 0; rank < byName.length; rank++) {
+            ranks[byName[rank].ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Properties the snapshot can sort by.
+     */
+    private enum Column {
+        ID("id"),
+        NAME("name"),
+        POSITION("position"),
+        DEPARTMENT("department"),
+        HIRE_DATE("hireDate");
+
+        private final String property;
+
+        Column(String property) {
+            this.property = property;
+        }
+
+        static Column forProperty(String property) {
+            for (Column column : values()) {
+                if (column.property.equals(property)) {
+                    return column;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A committed change to one employee.
+     */
+    private record Change(long id, long version, boolean active, String name, String position,
+                          Department department, LocalDate hireDate, Long managerId) {
+    }
+
+    /**
+     * The columns of one tenant.  Readers share the lock; loading and
+     * applying changes take it exclusively.  Until it is loaded a directory
+     * ignores changes, as the load reads them from the database anyway.  A
+     * loaded directory is never unloaded, only replaced.
+     */
+    private final class Directory {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Column, int[]> permutations = new ConcurrentHashMap<>();
+
+        private boolean loaded;
+        private int size;
+        private long[] ids;
+        private long[] versions;
+        private long[] managerIds;
+        private int[] hireDays;
+        private byte[] departments;
+        private int[] positions;
+        private String[] names;
+        private List<String> positionDictionary;
+        private Map<String, Integer> positionCodes;
+        /**
+         * Versions of employees removed since the load, so a late update for
+         * an employee that has since been terminated is not applied.
+         */
+        private Map<Long, Long> removed;
+
+        PageResponse<EmployeeResponse> page(Column column, boolean ascending, Pageable pageable, boolean includeTotal) {
+            ensureLoaded();
+            lock.readLock().lock();
+            try {
+                int[] permutation = column == Column.ID ? null : permutations.computeIfAbsent(column, this::sortedRows);
+                long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+                int from = (int) Math.min(offset, size);
+                int to = pageable.isPaged() ? (int) Math.min(offset + pageable.getPageSize(), size) : size;
+                List<EmployeeResponse> content = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    int position = ascending ? i : size - 1 - i;
+                    content.add(toResponse(permutation == null ? position : permutation[position]));
+                }
+                if (includeTotal) {
+                    return PageResponse.of(new PageImpl<>(content, pageable, size));
+                }
+                return PageResponse.of(new SliceImpl<>(content, pageable, to < size));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void apply(Change change) {
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+                int row = Arrays.binarySearch(ids, 0, size, change.id());
+                if (row >= 0 && change.version() <= versions[row]) {
+                    return;
+                }
+                Long removedVersion = removed.get(change.id());
+                if (removedVersion != null && change.version() <= removedVersion) {
+                    return;
+                }
+                if (!change.active()) {
+                    removed.put(change.id(), change.version());
+                    if (row >= 0) {
+                        removeRow(row);
+                    }
+                } else if (row >= 0) {
+                    setRow(row, change);
+                } else {
+                    insertRow(-row - 1, change);
+                }
+                permutations.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the ids whose announced version is newer than the one held,
+         * or nothing while the directory is not loaded.
+         */
+        List<Long> staleIds(Map<Long, Long> announced) {
+            lock.readLock().lock();
+            try {
+                if (!loaded) {
+                    return List.of();
+                }
+                List<Long> stale = new ArrayList<>();
+                announced.forEach((id, version) -> {
+                    int row = Arrays.binarySearch(ids, 0, size, id);
+                    long known = row >= 0 ? versions[row] : removed.getOrDefault(id, -1L);
+                    if (version > known) {
+                        stale.add(id);
+                    }
+                });
+                return stale;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void ensureLoaded() {
+            lock.readLock().lock();
+            try {
+                if (loaded) {
+                    return;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    load();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void load() {
+            long start = System.nanoTime();
+            List<Object[]> rows = transactionTemplate.execute(status -> employeeRepository.findDirectoryRows());
+            int capacity = Math.max(INITIAL_CAPACITY, rows.size() + rows.size() / 4);
+            ids = new long[capacity];
+            versions = new long[capacity];
+            managerIds = new long[capacity];
+            hireDays = new int[capacity];
+            departments = new byte[capacity];
+            positions = new int[capacity];
+            names = new String[capacity];
+            positionDictionary = new ArrayList<>();
+            positionCodes = new HashMap<>();
+            removed = new HashMap<>();
+            size = 0;
+            for (Object[] row : rows) {
+                setRow(size++, new Change((Long) row[0], (Long) row[1], true, (String) row[2], (String) row[3],
+                        (Department) row[4], (LocalDate) row[5], (Long) row[6]));
+            }
+            loaded = true;
+            log.info("Loaded directory snapshot of {} employees for tenant {} in {} ms",
+                    size, TenantContext.getTenantId(), (System.nanoTime() - start) / 1_000_000);
+        }
+
+        private void setRow(int row, Change change) {
+            ids[row] = change.id();
+            versions[row] = change.version();
+            // ids start at 1, so 0 marks the absence of a manager
+            managerIds[row] = change.managerId() != null ? change.managerId() : 0L;
+            hireDays[row] = (int) change.hireDate().toEpochDay();
+            departments[row] = (byte) change.department().ordinal();
+            positions[row] = positionCode(change.position());
+            names[row] = change.name().intern();
+        }
+
+        private void insertRow(int row, Change change) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+                managerIds = Arrays.copyOf(managerIds, capacity);
+                hireDays = Arrays.copyOf(hireDays, capacity);
+                departments = Arrays.copyOf(departments, capacity);
+                positions = Arrays.copyOf(positions, capacity);
+                names = Arrays.copyOf(names, capacity);
+            }
+            int tail = size - row;
+            System.arraycopy(ids, row, ids, row + 1, tail);
+            System.arraycopy(versions, row, versions, row + 1, tail);
+            System.arraycopy(managerIds, row, managerIds, row + 1, tail);
+            System.arraycopy(hireDays, row, hireDays, row + 1, tail);
+            System.arraycopy(departments, row, departments, row + 1, tail);
+            System.arraycopy(positions, row, positions, row + 1, tail);
+            System.arraycopy(names, row, names, row + 1, tail);
+            size++;
+            setRow(row, change);
+        }
+
+        private void removeRow(int row) {
+            int tail = size - row - 1;
+            System.arraycopy(ids, row + 1, ids, row, tail);
+            System.arraycopy(versions, row + 1, versions, row, tail);
+            System.arraycopy(managerIds, row + 1, managerIds, row, tail);
+            System.arraycopy(hireDays, row + 1, hireDays, row, tail);
+            System.arraycopy(departments, row + 1, departments, row, tail);
+            System.arraycopy(positions, row + 1, positions, row, tail);
+            System.arraycopy(names, row + 1, names, row, tail);
+            size--;
+            names[size] = null;
+        }
+
+        private int positionCode(String position) {
+            Integer code = positionCodes.get(position);
+            if (code == null) {
+                code = positionDictionary.size();
+                positionDictionary.add(position);
+                positionCodes.put(position, code);
+            }
+            return code;
+        }
+
+        /**
+         * Builds the ascending permutation for a column.  Ties are broken by
+         * row, that is by id.  Numeric keys are packed with the row into one
+         * {@code long} and sorted as primitives.
+         */
+        private int[] sortedRows(Column column) {
+            if (column == Column.NAME) {
+                Integer[] boxed = new Integer[size];
+                for (int row = 0; row < size; row++) {
+                    boxed[row] = row;
+                }
+                Arrays.sort(boxed, Comparator.<Integer, String>comparing(row -> names[row], String.CASE_INSENSITIVE_ORDER)
+                        .thenComparing(row -> names[row])
+                        .thenComparingInt(row -> row));
+                int[] permutation = new int[size];
+                for (int i = 0; i < size; i++) {
+                    permutation[i] = boxed[i];
+                }
+                return permutation;
+            }
+            int[] positionRank = column == Column.POSITION ? positionRanks() : null;
+            long[] keys = new long[size];
+            for (int row = 0; row < size; row++) {
+                long key = switch (column) {
+                    case POSITION -> positionRank[positions[row]];
+                    case DEPARTMENT -> DEPARTMENT_RANK[departments[row]];
+                    case HIRE_DATE -> hireDays[row];
+                    default -> throw new IllegalStateException("Unexpected column " + column);
+                };
+                keys[row] = key << 32 | row;
+            }
+            Arrays.sort(keys);
+            int[] permutation = new int[size];
+            for (int i = 0; i < size; i++) {
+                permutation[i] = (int) keys[i];
+            }
+            return permutation;
+        }
+
+        private int[] positionRanks() {
+            Integer[] codes = new Integer[positionDictionary.size()];
+            for (int code = 0; code < codes.length; code++) {
+                codes[code] = code;
+            }
+            Arrays.sort(codes, Comparator.comparing(positionDictionary::get));
+            int[] ranks = new int[codes.length];
+            for (int rank = 0; rank < codes.length; rank++) {
+                ranks[codes[rank]] = rank;
+            }
+            return ranks;
+        }
+
+        private EmployeeResponse toResponse(int row) {
+            return EmployeeResponse.builder()
+                    .id(ids[row])
+                    .name(names[row])
+                    .position(positionDictionary.get(positions[row]))
+                    .department(DEPARTMENTS[departments[row]])
+                    .hireDate(LocalDate.ofEpochDay(hireDays[row]))
+                    .managerId(managerIds[row] != 0L ? managerIds[row] : null)
+                    .status(EmployeeStatus.ACTIVE)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Hands the events published by the outbox relay to the Server-Sent Events
+ * subscribers of every instance, not just the one holding the relay lock.
+ * The relay announces the sequence numbers it marked published with a
+ * {@code NOTIFY} in the same transaction, so the announcement is delivered
+ * when, and only if, the events are published.  Every instance receives it
+ * through the shared {@link NotificationListener}, reads the announced events
+ * on the listener's connection, i.e. from the primary, and passes them to its
+ * {@link EmployeeStreamService} in sequence order.
+ * <p>
+ * Announcements sent while the listener is disconnected are lost; after it
+ * reconnects, every local subscriber is told to resync.
+ */
+@Slf4j
+@Component
+public class EmployeeEventBroadcast implements NotificationHandler {
+
+    static final String CHANNEL = "employee_events";
+
+    private static final String LOAD_EVENTS = """
+            select id, tenant_id, employee_id, event_type, payload, created_at
+              from outbox_events
+             where id = any(?)
+             order by id
+            """;
+
+    private final EmployeeStreamService streamService;
+    private final OutboxService outboxService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public EmployeeEventBroadcast(EmployeeStreamService streamService, OutboxService outboxService) {
+        this.streamService = streamService;
+        this.outboxService = outboxService;
+    }
+
+    @Override
+    public String channel() {
+        return CHANNEL;
+    }
+
+    /**
+     * Announces events marked published in the current transaction.  The
+     * announcement is only delivered if the transaction commits.
+     *
+     * @param sequences sequence numbers of the published events
+     */
+    public void announce(List<Long> sequences) {
+        List<String> keys = new ArrayList<>(sequences.size());
+        for (Long sequence : sequences) {
+            keys.add(sequence.toString());
+        }
+        NotificationListener.notify(entityManager, CHANNEL, NotificationListener.payloads("", keys));
+    }
+
+    @Override
+    public void onNotifications(List<String> payloads, Connection connection) throws SQLException {
+        TreeSet<Long> sequences = new TreeSet<>();
+        for (String payload : payloads) {
+            try {
+                for (String key : payload.split(",")) {
+                    sequences.add(Long.parseLong(key));
+                }
+            } catch (NumberFormatException ex) {
+                log.debug("Ignoring malformed event announcement '{}'", payload, ex);
+            }
+        }
+        if (!sequences.isEmpty()) {
+            streamService.publish(load(connection, sequences));
+        }
+    }
+
+    @Override
+    public void onReconnect() {
+        log.info("Employee event announcements may have been missed; asking subscribers to resync");
+        streamService.resync();
+    }
+
+    /**
+     * Reads the announced events in sequence order.  Events purged in the
+     * meantime are simply missing.
+     */
+    private List<EmployeeChangeEvent> load(Connection listening, TreeSet<Long> sequences) throws SQLException {
+        List<EmployeeChangeEvent> events = new ArrayList<>(sequences.size());
+        Array ids = listening.createArrayOf("bigint", sequences.toArray());
+        try (PreparedStatement statement = listening.prepareStatement(LOAD_EVENTS)) {
+            statement.setArray(1, ids);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    events.add(outboxService.toChangeEvent(OutboxEvent.builder()
+                            .id(rows.getLong(1))
+                            .tenantId(rows.getString(2))
+                            .employeeId(rows.getLong(3))
+                            .type(EmployeeEventType.valueOf(rows.getString(4)))
+                            .payload(rows.getString(5))
+                            .createdAt(rows.getTimestamp(6).toInstant())
+                            .build()));
+                }
+            }
+        } finally {
+            ids.free();
+        }
+        return events;
+    }
+}
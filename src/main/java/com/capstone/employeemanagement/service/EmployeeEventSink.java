@@ -0,0 +1,25 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+
+import java.util.List;
+
+/**
+ * Destination for employee change events relayed from the outbox.  Every
+ * registered sink receives events in sequence order and the relay never
+ * offers an event again to a sink that already accepted it.  Delivery is
+ * still at-least-once across restarts, so downstream consumers should treat
+ * the sequence number as an idempotency key.
+ */
+public interface EmployeeEventSink {
+
+    /**
+     * Offers a batch of events to the sink.
+     *
+     * @param events events ordered by ascending sequence number
+     * @return the number of leading events the sink accepted; anything less
+     *         than {@code events.size()} signals backpressure and the rest of
+     *         the batch is retried later
+     */
+    int publish(List<EmployeeChangeEvent> events);
+}
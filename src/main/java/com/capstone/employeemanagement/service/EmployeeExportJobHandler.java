@@ -0,0 +1,83 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes all active employees to a CSV file, in id order.  The file is kept
+ * by {@link JobResultFiles}, which makes a resumed export continue exactly
+ * where the last committed chunk ended.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeExportJobHandler implements BulkJobHandler {
+
+    private static final String HEADER = "id,name,position,department,hireDate,managerId\n";
+
+    private final EmployeeRepository employeeRepository;
+    private final JobResultFiles jobResultFiles;
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.EXPORT;
+    }
+
+    @Override
+    public Session open(BulkJob job) throws IOException {
+        JobResultFiles.CsvFile file = jobResultFiles.open(job, HEADER);
+        return new Session() {
+            @Override
+            public long countRows() {
+                return employeeRepository.countByStatus(EmployeeStatus.ACTIVE);
+            }
+
+            @Override
+            public List<Long> nextKeys(long after, int limit) {
+                return employeeRepository.findActiveIdsAfter(after, PageRequest.of(0, limit));
+            }
+
+            @Override
+            public void process(List<Long> keys) throws IOException {
+                List<Employee> employees = employeeRepository.findAllById(keys).stream()
+                        .sorted(Comparator.comparing(Employee::getId))
+                        .toList();
+                StringBuilder csv = new StringBuilder(employees.size() * 96);
+                for (Employee employee : employees) {
+                    csv.append(employee.getId()).append(',')
+                            .append(JobResultFiles.quote(employee.getName())).append(',')
+                            .append(JobResultFiles.quote(employee.getPosition())).append(',')
+                            .append(employee.getDepartment()).append(',')
+                            .append(employee.getHireDate()).append(',')
+                            .append(employee.getManager() != null ? employee.getManager().getId() : "")
+                            .append('\n');
+                }
+                file.append(csv);
+            }
+
+            @Override
+            public long outputBytes() {
+                return file.length();
+            }
+
+            @Override
+            public void rewind(long outputBytes) throws IOException {
+                file.rewind(outputBytes);
+            }
+
+            @Override
+            public void close() throws IOException {
+                file.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.DepartmentSummary;
+import com.capstone.employeemanagement.dto.UserResponse;
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.capstone.employeemanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read operations behind the GraphQL API.  Unlike {@link EmployeeService} it
+ * hands out the entities themselves, as GraphQL selects the fields to return;
+ * their lazy associations are never initialized, only the ids of the
+ * referenced rows are read, and the related records are fetched in batches
+ * by id.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeGraphService {
+
+    private final EmployeeRepository employeeRepository;
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public Slice<Employee> getEmployees(Pageable pageable, boolean includeArchived) {
+        return includeArchived
+                ? employeeRepository.findSliceBy(pageable)
+                : employeeRepository.findSliceByStatus(EmployeeStatus.ACTIVE, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Employee> findEmployee(Long id) {
+        return employeeRepository.findById(id);
+    }
+
+    /**
+     * Loads employees with a single {@code IN} query.
+     *
+     * @param ids employee ids
+     * @return the employees found, by id
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Employee> findEmployees(Collection<Long> ids) {
+        Map<Long, Employee> employees = new HashMap<>(ids.size() * 2);
+        for (Employee employee : employeeRepository.findAllById(ids)) {
+            employees.put(employee.getId(), employee);
+        }
+        return employees;
+    }
+
+    /**
+     * Loads users with a single {@code IN} query.
+     *
+     * @param ids user ids
+     * @return the users found, by id
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, UserResponse> findUsers(Collection<Long> ids) {
+        Map<Long, UserResponse> users = new HashMap<>(ids.size() * 2);
+        userRepository.findAllById(ids).forEach(user -> users.put(user.getId(), UserResponse.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .build()));
+        return users;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentSummary> getDepartmentSummaries() {
+        return employeeRepository.summarizeDepartments();
+    }
+}
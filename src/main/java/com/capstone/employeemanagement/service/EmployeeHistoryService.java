@@ -0,0 +1,139 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeHistoryResponse;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.exception.EmployeeNotFoundException;
+import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.EmployeeHistory;
+import com.capstone.employeemanagement.repository.EmployeeHistoryRepository;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Temporal history of employee records.  {@link EmployeeService} records
+ * every change within its own transaction, so the history commits or rolls
+ * back with the change itself.  Reads answer what an employee, or the whole
+ * directory, looked like at a given instant and which changes were made
+ * within a period.  History starts when it was introduced; earlier instants
+ * have no recorded state.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeHistoryService {
+
+    /**
+     * Upper bound used when a period has no end.
+     */
+    private static final Instant OPEN_END = Instant.parse("9999-12-31T00:00:00Z");
+
+    private final EmployeeHistoryRepository historyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AuditService auditService;
+
+    /**
+     * Records the current state of the given employees.  They must have been
+     * flushed, so the history copies exactly what was written.
+     *
+     * @param employees employees changed in the current transaction
+     * @param changeType the kind of change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Collection<Employee> employees, EmployeeEventType changeType) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        historyRepository.recordVersions(TenantContext.getTenantId(),
+                employees.stream().map(Employee::getId).toList(), changeType.name(), auditService.currentActor());
+    }
+
+    /**
+     * Returns an employee as they were at the given instant.
+     *
+     * @throws EmployeeNotFoundException if the employee had no recorded
+     *                                   state at that instant
+     */
+    @Transactional(readOnly = true)
+    public EmployeeHistoryResponse getAsOf(Long id, Instant at) {
+        return historyRepository.findAsOf(TenantContext.getTenantId(), id, at)
+                .map(EmployeeHistoryService::toResponse)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    /**
+     * Returns a page of the employees that were active at the given instant,
+     * as they were then, in id order.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeHistoryResponse> getDirectoryAsOf(Instant at, Pageable pageable) {
+        return PageResponse.of(historyRepository.findActiveAsOf(TenantContext.getTenantId(), at, pageable)
+                .map(EmployeeHistoryService::toResponse));
+    }
+
+    /**
+     * Returns the states of one employee that began within the period,
+     * oldest first.
+     *
+     * @param from start of the period (inclusive); unbounded if {@code null}
+     * @param to end of the period (exclusive); unbounded if {@code null}
+     * @throws EmployeeNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeHistoryResponse> getHistory(Long id, Instant from, Instant to) {
+        requireValidPeriod(from, to);
+        if (!employeeRepository.existsById(id)) {
+            throw new EmployeeNotFoundException(id);
+        }
+        return historyRepository.findChanges(id, from != null ? from : Instant.EPOCH, to != null ? to : OPEN_END)
+                .stream()
+                .map(EmployeeHistoryService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Returns a page of the changes to any employee made within the period,
+     * oldest first.
+     *
+     * @param from start of the period (inclusive)
+     * @param to end of the period (exclusive); unbounded if {@code null}
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeHistoryResponse> getChanges(Instant from, Instant to, Pageable pageable) {
+        requireValidPeriod(from, to);
+        return PageResponse.of(historyRepository.findChanges(from, to != null ? to : OPEN_END, pageable)
+                .map(EmployeeHistoryService::toResponse));
+    }
+
+    private static void requireValidPeriod(Instant from, Instant to) {
+        if (from != null && to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("The end of the period must be after its start");
+        }
+    }
+
+    private static EmployeeHistoryResponse toResponse(EmployeeHistory history) {
+        return EmployeeHistoryResponse.builder()
+                .id(history.getEmployeeId())
+                .version(history.getVersion())
+                .name(history.getName())
+                .position(history.getPosition())
+                .department(history.getDepartment())
+                .hireDate(history.getHireDate())
+                .managerId(history.getManagerId())
+                .status(history.getStatus())
+                .terminationDate(history.getTerminationDate())
+                .changeType(history.getChangeType())
+                .changedBy(history.getChangedBy())
+                .validFrom(history.getValidFrom())
+                .validTo(history.getValidTo())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.BulkJobType;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Creates employees from a list of employee requests.  The keys are the
+ * 1-based positions of the items.  Each item goes through
+ * {@link EmployeeService#createEmployee}, so events, audit records and the
+ * hierarchy are maintained as for single creations; items failing validation
+ * are counted as failed rows.  So are items that likely duplicate an active
+ * employee, including one created earlier in the same import, unless
+ * {@code app.duplicates.reject-on-import} is off.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeImportJobHandler implements BulkJobHandler {
+
+    private static final TypeReference<List<EmployeeRequest>> ITEMS = new TypeReference<>() {
+    };
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EmployeeRepository employeeRepository;
+    private final DuplicateDetector duplicateDetector;
+
+    @Value("${app.jobs.max-import-rows:100000}")
+    private int maxImportRows;
+
+    @Value("${app.duplicates.reject-on-import:true}")
+    private boolean rejectDuplicates;
+
+    @Override
+    public BulkJobType type() {
+        return BulkJobType.IMPORT;
+    }
+
+    @Override
+    public void validate(String parameters) {
+        int items = parse(parameters).size();
+        if (items == 0 || items > maxImportRows) {
+            throw new IllegalArgumentException("An import must contain between 1 and " + maxImportRows + " employees");
+        }
+    }
+
+    @Override
+    public Session open(BulkJob job) {
+        List<EmployeeRequest> items = parse(job.getParameters());
+        return new Session() {
+            @Override
+            public long countRows() {
+                return items.size();
+            }
+
+            @Override
+            public List<Long> nextKeys(long after, int limit) {
+                return LongStream.rangeClosed(after + 1, Math.min(items.size(), after + limit)).boxed().toList();
+            }
+
+            @Override
+            public void process(List<Long> keys) {
+                for (Long key : keys) {
+                    EmployeeRequest request = items.get((int) (key - 1));
+                    Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(request);
+                    if (!violations.isEmpty()) {
+                        throw new IllegalArgumentException("Item " + key + ": " + violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .sorted()
+                                .collect(Collectors.joining(", ")));
+                    }
+                    if (rejectDuplicates) {
+                        rejectDuplicate(key, request);
+                    }
+                    employeeService.createEmployee(request, job.getSubmittedBy());
+                }
+            }
+        };
+    }
+
+    private void rejectDuplicate(Long key, EmployeeRequest request) {
+        List<DuplicateDetector.Candidate> block = employeeRepository
+                .findDuplicateBlock(request.getDepartment(), request.getHireDate()).stream()
+                .map(DuplicateDetectionJobHandler::toCandidate)
+                .toList();
+        if (block.isEmpty()) {
+            return;
+        }
+        DuplicateDetector.Candidate incoming =
+                new DuplicateDetector.Candidate(0, request.getName(), request.getDepartment(), request.getHireDate());
+        List<DuplicateDetector.Match> matches = duplicateDetector.findMatches(incoming, block);
+        if (!matches.isEmpty()) {
+            DuplicateDetector.Match best = matches.get(0);
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Item %d: likely duplicate of employee %d (%s, score %.3f)",
+                    key, best.kept().id(), best.kept().name(), best.score()));
+        }
+    }
+
+    private List<EmployeeRequest> parse(String parameters) {
+        try {
+            List<EmployeeRequest> items = objectMapper.readValue(parameters, ITEMS);
+            return items != null ? items : List.of();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Import items are not valid employee requests", ex);
+        }
+    }
+}
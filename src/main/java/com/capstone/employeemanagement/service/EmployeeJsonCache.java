@@ -0,0 +1,232 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.CachedJson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of serialized employee detail responses, keyed by tenant and
+ * employee id and tagged with the entity version they were rendered from.
+ * Including the tenant in the key means a lookup can only ever return a
+ * document of the caller's own tenant.  The JSON bytes
+ * live in direct buffers outside the Java heap and the total size is bounded;
+ * the least recently written entries are evicted first.  Each key appears
+ * once in the write order, which is updated within the map's per-key
+ * locking so it always matches the entry in the map.  A buffer is only
+ * allocated for a document the cache will keep.
+ * <p>
+ * Updates and deletions replace the entry with a tombstone carrying the new
+ * version, so a reader that loaded an older version concurrently cannot put
+ * stale bytes back.  The tombstone is removed again if the writing
+ * transaction rolls back.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    /**
+     * Accounting size of a tombstone and of an entry's bookkeeping.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Keys from least to most recently written.  Guarded by its own monitor,
+     * which is only ever taken inside a map operation on the key, never the
+     * other way round.
+     */
+    private final LinkedHashSet<Key> writeOrder = new LinkedHashSet<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    @Value("${app.employee-json-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.employee-json-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.employee-json-cache.max-age:PT10M}")
+    private Duration maxAge;
+
+    /**
+     * Returns the cached document for an employee, if present and fresh.
+     */
+    public Optional<CachedJson> get(String tenantId, Long id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Key key = new Key(tenantId, id);
+        Entry entry = entries.get(key);
+        if (entry == null || entry.json() == null) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - entry.createdAt() > maxAge.toNanos()) {
+            remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.json());
+    }
+
+    /**
+     * Caches the document rendered from the given version unless a newer
+     * version or a tombstone for a newer version is already present.
+     *
+     * @return the document that was offered, whether or not it was cached
+     */
+    public CachedJson put(String tenantId, Long id, long version, byte[] json) {
+        Key key = new Key(tenantId, id);
+        if (!enabled || ENTRY_OVERHEAD + json.length > maxBytes || supersedes(entries.get(key), version)) {
+            return CachedJson.wrap(version, json);
+        }
+        Entry candidate = new Entry(version, CachedJson.of(version, json), System.nanoTime());
+        Entry stored = entries.compute(key, (k, current) -> {
+            if (supersedes(current, version)) {
+                return current;
+            }
+            totalBytes.addAndGet(candidate.size() - (current == null ? 0 : current.size()));
+            touch(k);
+            return candidate;
+        });
+        if (stored == candidate) {
+            evictIfNeeded();
+        }
+        return candidate.json();
+    }
+
+    /**
+     * Whether the entry makes a document of the given version redundant:
+     * it is newer, or a document of the same version.
+     */
+    private static boolean supersedes(Entry current, long version) {
+        return current != null && (current.version() > version || current.json() != null && current.version() == version);
+    }
+
+    /**
+     * Drops the cached document of an employee that was changed to the given
+     * version in the current transaction.
+     */
+    public void invalidate(String tenantId, Long id, long newVersion) {
+        Key key = new Key(tenantId, id);
+        Entry tombstone = new Entry(newVersion, null, System.nanoTime());
+        entries.compute(key, (k, current) -> {
+            totalBytes.addAndGet(tombstone.size() - (current == null ? 0 : current.size()));
+            touch(k);
+            return tombstone;
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        remove(key, tombstone);
+                    }
+                }
+            });
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Drops the cached document of an employee deleted in the current
+     * transaction.
+     */
+    public void invalidateDeleted(String tenantId, Long id) {
+        invalidate(tenantId, id, Long.MAX_VALUE);
+    }
+
+    /**
+     * Drops every cached document of a tenant.  Tombstones are kept, as they
+     * still guard against stale puts.
+     */
+    public void invalidateTenant(String tenantId) {
+        entries.forEach((key, entry) -> {
+            if (entry.json() != null && key.tenantId().equals(tenantId)) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void clear() {
+        entries.keySet().forEach(key -> {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    /**
+     * Bytes currently accounted to cached documents and tombstones.
+     */
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    private void evictIfNeeded() {
+        while (totalBytes.get() > maxBytes) {
+            Key oldest;
+            synchronized (writeOrder) {
+                Iterator<Key> keys = writeOrder.iterator();
+                if (!keys.hasNext()) {
+                    return;
+                }
+                oldest = keys.next();
+            }
+            entries.compute(oldest, (k, current) -> {
+                if (current != null) {
+                    totalBytes.addAndGet(-current.size());
+                }
+                forget(k);
+                return null;
+            });
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.computeIfPresent(key, (k, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            totalBytes.addAndGet(-entry.size());
+            forget(k);
+            return null;
+        });
+    }
+
+    /**
+     * Moves a key to the most recently written end.  Called inside a map
+     * operation on the key.
+     */
+    private void touch(Key key) {
+        synchronized (writeOrder) {
+            writeOrder.remove(key);
+            writeOrder.add(key);
+        }
+    }
+
+    private void forget(Key key) {
+        synchronized (writeOrder) {
+            writeOrder.remove(key);
+        }
+    }
+
+    private record Key(String tenantId, Long id) {
+    }
+
+    private record Entry(long version, CachedJson json, long createdAt) {
+
+        long size() {
+            return ENTRY_OVERHEAD + (json == null ? 0 : json.length());
+        }
+    }
+}
@@ -1,29 +1,74 @@
 package com.capstone.employeemanagement.service;
 
+import com.capstone.employeemanagement.dto.CachedJson;
 import com.capstone.employeemanagement.dto.EmployeeRequest;
 import com.capstone.employeemanagement.dto.EmployeeResponse;
+import com.capstone.employeemanagement.dto.PageResponse;
+import com.capstone.employeemanagement.exception.ConflictException;
+import com.capstone.employeemanagement.exception.EmployeeNotFoundException;
+import com.capstone.employeemanagement.model.AuditAction;
 import com.capstone.employeemanagement.model.Employee;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.EmployeeStatus;
 import com.capstone.employeemanagement.model.User;
+import com.capstone.employeemanagement.repository.EmployeeHierarchyRepository;
 import com.capstone.employeemanagement.repository.EmployeeRepository;
 import com.capstone.employeemanagement.repository.UserRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * Service encapsulating business logic for managing employees.  It provides
  * operations to create, retrieve, update and delete employee records while
  * enforcing access control via the service methods invoked from controllers.
+ * Every mutation also appends a change event to the outbox within the same
+ * transaction.  The change is flushed first so that the row lock orders
+ * concurrent events for the same employee.  Audit records are handed to the
+ * asynchronous {@link AuditService} after commit.  Detail reads are served
+ * from pre-serialized JSON in {@link EmployeeJsonCache}, which updates and
+ * deletions invalidate; {@link CacheInvalidationBus} carries every change to
+ * the caches of the other instances.  Each flushed change is also appended
+ * to the temporal history kept by {@link EmployeeHistoryService}.
+ * <p>
+ * The reporting hierarchy is kept twice: as the {@code manager} association
+ * and as a closure table holding every (ancestor, descendant, depth) pair, so
+ * reports, whole subtrees and chains of command are each a single indexed
+ * query however deep the tree is.  Both are changed together here, under a
+ * per-tenant advisory lock.
+ * <p>
+ * Employees are never deleted: deletion terminates them, which moves the row
+ * to the archive partition and out of the hierarchy.  List queries exclude
+ * terminated employees unless archived rows are explicitly requested; a
+ * terminated employee can still be read by id but no longer changed.
  */
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeHierarchyRepository hierarchyRepository;
     private final UserRepository userRepository;
+    private final OutboxService outboxService;
+    private final AuditService auditService;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final EmployeeDirectorySnapshot directorySnapshot;
+    private final EmployeeHistoryService historyService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new employee and associates the current user as the creator.
@@ -36,27 +81,83 @@ public class EmployeeService {
     public EmployeeResponse createEmployee(EmployeeRequest request, String creatorUsername) {
         User creator = userRepository.findByUsername(creatorUsername)
                 .orElseThrow(() -> new UsernameNotFoundException("Creator not found"));
+        String tenantId = TenantContext.getTenantId();
+        hierarchyRepository.lockShared(EmployeeHierarchyRepository.lockKey(tenantId));
         Employee employee = Employee.builder()
                 .name(request.getName())
                 .position(request.getPosition())
                 .department(request.getDepartment())
                 .hireDate(request.getHireDate())
+                .manager(findManager(request.getManagerId()))
                 .createdBy(creator)
                 .build();
-        Employee saved = employeeRepository.save(employee);
-        return toEmployeeResponse(saved);
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        hierarchyRepository.insertNode(tenantId, saved.getId());
+        if (saved.getManager() != null) {
+            hierarchyRepository.attachSubtree(tenantId, saved.getId(), saved.getManager().getId());
+        }
+        historyService.record(List.of(saved), EmployeeEventType.CREATED);
+        directorySnapshot.recordAfterCommit(saved);
+        cacheInvalidationBus.publish(saved);
+        EmployeeResponse response = toEmployeeResponse(saved);
+        outboxService.append(EmployeeEventType.CREATED, saved.getId(), response);
+        auditService.recordAfterCommit(AuditAction.EMPLOYEE_CREATED, creatorUsername, employeeTarget(saved.getId()), null);
+        return response;
     }
 
     /**
      * Retrieves a page of employees.  Pagination divides large datasets into
-     * smaller chunks for better performance【976320552059987†L106-L115】.
+     * smaller chunks for better performance【976320552059987†L106-L115】.  The
+     * count query only runs when the caller asks for the total.  Active
+     * employees are served from the {@link EmployeeDirectorySnapshot} when it
+     * is enabled.
      *
      * @param pageable pagination and sorting information
+     * @param includeTotal whether to compute the total number of employees
+     * @param includeArchived whether terminated employees are included
      * @return page of employee responses
      */
     @Transactional(readOnly = true)
-    public Page<EmployeeResponse> getEmployees(Pageable pageable) {
-        return employeeRepository.findAll(pageable).map(this::toEmployeeResponse);
+    public PageResponse<EmployeeResponse> getEmployees(Pageable pageable, boolean includeTotal, boolean includeArchived) {
+        if (!includeArchived) {
+            Optional<PageResponse<EmployeeResponse>> snapshot = directorySnapshot.findPage(pageable, includeTotal);
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+        }
+        if (includeTotal) {
+            Page<Employee> page = includeArchived
+                    ? employeeRepository.findAll(pageable)
+                    : employeeRepository.findByStatus(EmployeeStatus.ACTIVE, pageable);
+            return PageResponse.of(page.map(this::toEmployeeResponse));
+        }
+        Slice<Employee> slice = includeArchived
+                ? employeeRepository.findSliceBy(pageable)
+                : employeeRepository.findSliceByStatus(EmployeeStatus.ACTIVE, pageable);
+        return PageResponse.of(slice.map(this::toEmployeeResponse));
+    }
+
+    /**
+     * Retrieves a page of employees restricted to the requested fields.  Only
+     * the corresponding columns are selected from the database.
+     *
+     * @param fields requested properties, in output order
+     * @param pageable pagination and sorting information
+     * @param includeTotal whether to compute the total number of employees
+     * @param includeArchived whether terminated employees are included
+     * @return page of rows keyed by property name
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getEmployeeFields(List<String> fields, Pageable pageable, boolean includeTotal,
+                                                               boolean includeArchived) {
+        Slice<Map<String, Object>> slice = employeeRepository.findFields(fields, pageable, includeArchived);
+        PageResponse<Map<String, Object>> response = PageResponse.of(slice);
+        if (includeTotal) {
+            long total = includeArchived ? employeeRepository.count() : employeeRepository.countByStatus(EmployeeStatus.ACTIVE);
+            response.setTotalElements(total);
+            response.setTotalPages(pageable.isPaged() ? (int) Math.ceil((double) total / pageable.getPageSize()) : 1);
+        }
+        return response;
     }
 
     /**
@@ -64,46 +165,235 @@ public class EmployeeService {
      *
      * @param id employee id
      * @return employee response
+     * @throws EmployeeNotFoundException if the employee does not exist
      */
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
-        return toEmployeeResponse(employee);
+        return findEmployeeById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    /**
+     * Looks up a single employee without treating absence as an error.
+     *
+     * @param id employee id
+     * @return the employee response, or empty if it does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<EmployeeResponse> findEmployeeById(Long id) {
+        return employeeRepository.findById(id).map(this::toEmployeeResponse);
+    }
+
+    /**
+     * Returns the serialized detail response of an employee.  Cache hits
+     * need neither a database round trip nor a transaction; misses load the
+     * entity through the repository's own read-only transaction.  A missing
+     * employee yields an empty result rather than an exception.
+     *
+     * @param id employee id
+     * @return JSON document of the employee response, or empty
+     */
+    public Optional<CachedJson> findEmployeeJson(Long id) {
+        Optional<CachedJson> cached = employeeJsonCache.get(TenantContext.getTenantId(), id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return employeeRepository.findById(id).map(employee -> employeeJsonCache.put(
+                employee.getTenantId(), employee.getId(), employee.getVersion(), toJson(toEmployeeResponse(employee))));
     }
 
     /**
-     * Updates an existing employee.  If the employee does not exist a
-     * {@link IllegalArgumentException} is thrown.
+     * Returns a page of the employees reporting directly to a manager.
+     *
+     * @param id manager id
+     * @param pageable pagination information
+     * @return page of employee responses
+     * @throws EmployeeNotFoundException if the manager does not exist
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> getDirectReports(Long id, Pageable pageable) {
+        requireEmployee(id);
+        return PageResponse.of(employeeRepository.findDirectReports(id, pageable).map(this::toEmployeeResponse));
+    }
+
+    /**
+     * Returns a page of everyone below an employee, nearest levels first.
+     * Counting a large subtree scans all of its closure rows, so the total is
+     * only computed on request.
+     *
+     * @param id root employee id
+     * @param pageable pagination information; its sort is ignored
+     * @param includeTotal whether to compute the size of the subtree
+     * @return page of employee responses
+     * @throws EmployeeNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> getSubtree(Long id, Pageable pageable, boolean includeTotal) {
+        requireEmployee(id);
+        Slice<Employee> slice = employeeRepository.findSubtree(id, pageable);
+        PageResponse<EmployeeResponse> response = PageResponse.of(slice.map(this::toEmployeeResponse));
+        if (includeTotal) {
+            long total = employeeRepository.countSubtree(id);
+            response.setTotalElements(total);
+            response.setTotalPages(pageable.isPaged() ? (int) Math.ceil((double) total / pageable.getPageSize()) : 1);
+        }
+        return response;
+    }
+
+    /**
+     * Returns the managers above an employee, from the direct manager up to
+     * the top of the hierarchy.
+     *
+     * @param id employee id
+     * @return chain of command, nearest first
+     * @throws EmployeeNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getChainOfCommand(Long id) {
+        requireEmployee(id);
+        return employeeRepository.findChainOfCommand(id).stream().map(this::toEmployeeResponse).toList();
+    }
+
+    /**
+     * Updates an existing employee.  If the employee does not exist an
+     * {@link EmployeeNotFoundException} is thrown.  A change of manager moves
+     * the employee together with everyone below them; a move below the
+     * employee's own subtree is rejected.
      *
      * @param id employee identifier
      * @param request updated data
      * @return updated employee response
+     * @throws ConflictException if the employee has been terminated
      */
     @Transactional
     public EmployeeResponse updateEmployee(Long id, EmployeeRequest request) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Employee not found"));
+        Employee employee = findActiveEmployee(id);
         employee.setName(request.getName());
         employee.setPosition(request.getPosition());
         employee.setDepartment(request.getDepartment());
         employee.setHireDate(request.getHireDate());
-        Employee saved = employeeRepository.save(employee);
-        return toEmployeeResponse(saved);
+        Long currentManagerId = employee.getManager() != null ? employee.getManager().getId() : null;
+        boolean moved = !Objects.equals(currentManagerId, request.getManagerId());
+        String tenantId = TenantContext.getTenantId();
+        if (moved) {
+            hierarchyRepository.lockExclusive(EmployeeHierarchyRepository.lockKey(tenantId));
+            if (request.getManagerId() != null
+                    && hierarchyRepository.existsByAncestorIdAndDescendantId(id, request.getManagerId())) {
+                throw new IllegalArgumentException("An employee cannot report to themselves or to someone below them");
+            }
+            employee.setManager(findManager(request.getManagerId()));
+        }
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        if (moved) {
+            hierarchyRepository.detachSubtree(tenantId, id);
+            if (request.getManagerId() != null) {
+                hierarchyRepository.attachSubtree(tenantId, id, request.getManagerId());
+            }
+        }
+        historyService.record(List.of(saved), EmployeeEventType.UPDATED);
+        employeeJsonCache.invalidate(saved.getTenantId(), saved.getId(), saved.getVersion());
+        directorySnapshot.recordAfterCommit(saved);
+        cacheInvalidationBus.publish(saved);
+        EmployeeResponse response = toEmployeeResponse(saved);
+        outboxService.append(EmployeeEventType.UPDATED, saved.getId(), response);
+        auditService.recordAfterCommit(AuditAction.EMPLOYEE_UPDATED, auditService.currentActor(), employeeTarget(id), null);
+        return response;
     }
 
     /**
-     * Deletes an employee by its identifier.  Does nothing if the employee
-     * exists; otherwise throws an {@link IllegalArgumentException}.
+     * Terminates an employee: the record is kept, marked terminated as of the
+     * given date and moved to the archive partition.  The employee leaves the
+     * hierarchy and their direct reports move up to the employee's own
+     * manager.  Throws an {@link EmployeeNotFoundException} if the employee
+     * does not exist.
      *
      * @param id employee id
+     * @param terminationDate last day of employment; today if {@code null}
+     * @throws ConflictException if the employee has already been terminated
      */
     @Transactional
-    public void deleteEmployee(Long id) {
+    public void deleteEmployee(Long id, LocalDate terminationDate) {
+        Employee employee = findActiveEmployee(id);
+        LocalDate lastDay = terminationDate != null ? terminationDate : LocalDate.now();
+        if (lastDay.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Termination date cannot be in the future");
+        }
+        if (lastDay.isBefore(employee.getHireDate())) {
+            throw new IllegalArgumentException("Termination date cannot be before the hire date");
+        }
+        String tenantId = TenantContext.getTenantId();
+        hierarchyRepository.lockExclusive(EmployeeHierarchyRepository.lockKey(tenantId));
+        reassignReports(employee);
+        hierarchyRepository.bypassNode(tenantId, id);
+        hierarchyRepository.deleteNode(tenantId, id);
+        employee.setStatus(EmployeeStatus.TERMINATED);
+        employee.setTerminationDate(lastDay);
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        historyService.record(List.of(saved), EmployeeEventType.DELETED);
+        employeeJsonCache.invalidate(tenantId, id, saved.getVersion());
+        directorySnapshot.recordAfterCommit(saved);
+        cacheInvalidationBus.publish(saved);
+        // removed from every active view, so consumers see it as a deletion
+        outboxService.append(EmployeeEventType.DELETED, id, null);
+        auditService.recordAfterCommit(AuditAction.EMPLOYEE_DELETED, auditService.currentActor(), employeeTarget(id),
+                "terminated on " + lastDay);
+    }
+
+    private Employee findActiveEmployee(Long id) {
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+        if (employee.getStatus() != EmployeeStatus.ACTIVE) {
+            throw new ConflictException("Employee " + id + " has been terminated");
+        }
+        return employee;
+    }
+
+    /**
+     * Points the direct reports of an employee that is leaving at that
+     * employee's manager.  Going through the entities bumps their versions
+     * and publishes the change like any other update.
+     */
+    private void reassignReports(Employee employee) {
+        List<Employee> reports = employeeRepository.findAllDirectReports(employee.getId());
+        if (reports.isEmpty()) {
+            return;
+        }
+        for (Employee report : reports) {
+            report.setManager(employee.getManager());
+        }
+        employeeRepository.saveAllAndFlush(reports);
+        historyService.record(reports, EmployeeEventType.UPDATED);
+        for (Employee report : reports) {
+            employeeJsonCache.invalidate(report.getTenantId(), report.getId(), report.getVersion());
+            directorySnapshot.recordAfterCommit(report);
+            cacheInvalidationBus.publish(report);
+            outboxService.append(EmployeeEventType.UPDATED, report.getId(), toEmployeeResponse(report));
+        }
+    }
+
+    private Employee findManager(Long managerId) {
+        if (managerId == null) {
+            return null;
+        }
+        return employeeRepository.findByIdAndStatus(managerId, EmployeeStatus.ACTIVE)
+                .orElseThrow(() -> new IllegalArgumentException("Manager " + managerId + " not found"));
+    }
+
+    private void requireEmployee(Long id) {
         if (!employeeRepository.existsById(id)) {
-            throw new IllegalArgumentException("Employee not found");
+            throw new EmployeeNotFoundException(id);
         }
-        employeeRepository.deleteById(id);
+    }
+
+    private byte[] toJson(EmployeeResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize employee " + response.getId(), ex);
+        }
+    }
+
+    private static String employeeTarget(Long id) {
+        return "employee:" + id;
     }
 
     /**
@@ -119,6 +409,10 @@ public class EmployeeService {
                 .position(employee.getPosition())
                 .department(employee.getDepartment())
                 .hireDate(employee.getHireDate())
+                // the id of an uninitialized proxy is read without loading it
+                .managerId(employee.getManager() != null ? employee.getManager().getId() : null)
+                .status(employee.getStatus())
+                .terminationDate(employee.getTerminationDate())
                 .build();
     }
 }
\ No newline at end of file
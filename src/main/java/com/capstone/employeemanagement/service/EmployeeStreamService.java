@@ -0,0 +1,238 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import com.capstone.employeemanagement.security.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fans employee change events out to Server-Sent Events subscribers.  It
+ * receives every event published by the outbox relay, whichever instance
+ * relays, through {@link EmployeeEventBroadcast}.
+ * <p>
+ * Publishing never blocks on a client: events are merged into a small
+ * per-subscriber buffer and a virtual thread is started to write them only
+ * when that subscriber has something pending and no writer running.  Idle
+ * connections are parked in the async servlet machinery and hold no thread.
+ * Repeated changes to the same employee are coalesced into the latest one.  A
+ * subscriber that falls more than the buffer size behind gets a single
+ * {@code resync} event telling it to reload the directory instead of an
+ * unbounded backlog.  Subscribers only receive the events of the tenant they
+ * subscribed as.
+ */
+@Slf4j
+@Component
+public class EmployeeStreamService {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    /**
+     * Registers a new subscriber for the current tenant.  The connection is
+     * closed after the configured timeout; clients are expected to reconnect.
+     *
+     * @return emitter bound to the calling request
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(TenantContext.getTenantId(), emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // an initial comment commits the response so proxies see the stream start
+        if (subscriber.requestHeartbeat()) {
+            writers.execute(() -> drain(subscriber));
+        }
+        return emitter;
+    }
+
+    /**
+     * Buffers published events for the subscribers of their tenants.
+     *
+     * @param events events ordered by ascending sequence number
+     */
+    public void publish(List<EmployeeChangeEvent> events) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(events)) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Tells every subscriber to reload the directory, after events may have
+     * been missed.
+     */
+    public void resync() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.requestResync()) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Sends a comment line to every subscriber so idle connections are not
+     * closed by proxies and dead clients are detected.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.requestHeartbeat()) {
+                writers.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of connected subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Writes everything pending for a subscriber.  At most one drain runs per
+     * subscriber at a time; it ends once the buffer is observed empty.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            Outgoing outgoing;
+            while ((outgoing = subscriber.take()) != null) {
+                if (outgoing.resync()) {
+                    subscriber.emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                }
+                for (EmployeeChangeEvent event : outgoing.events()) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getSequence()))
+                            .name(event.getType().name().toLowerCase(Locale.ROOT))
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                if (outgoing.heartbeat() && !outgoing.resync() && outgoing.events().isEmpty()) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // the client went away or the emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        writers.shutdown();
+    }
+
+    private record Outgoing(boolean resync, boolean heartbeat, List<EmployeeChangeEvent> events) {
+    }
+
+    /**
+     * Per-connection state.  All buffer operations are guarded by the
+     * subscriber's monitor and are short; network writes happen outside it.
+     */
+    private static final class Subscriber {
+
+        private final String tenantId;
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final LinkedHashMap<Long, EmployeeChangeEvent> pending = new LinkedHashMap<>();
+        private boolean resyncDue;
+        private boolean heartbeatDue;
+        private boolean writing;
+
+        private Subscriber(String tenantId, SseEmitter emitter, int capacity) {
+            this.tenantId = tenantId;
+            this.emitter = emitter;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Buffers the events of the subscriber's tenant, keeping only the
+         * latest per employee.
+         *
+         * @return {@code true} if the caller must start a writer
+         */
+        synchronized boolean offer(List<EmployeeChangeEvent> events) {
+            boolean added = false;
+            for (EmployeeChangeEvent event : events) {
+                if (!tenantId.equals(event.getTenantId())) {
+                    continue;
+                }
+                added = true;
+                pending.remove(event.getEmployeeId());
+                pending.put(event.getEmployeeId(), event);
+                if (pending.size() > capacity) {
+                    pending.clear();
+                    resyncDue = true;
+                }
+            }
+            return added && claimWriter();
+        }
+
+        synchronized boolean requestResync() {
+            pending.clear();
+            resyncDue = true;
+            return claimWriter();
+        }
+
+        synchronized boolean requestHeartbeat() {
+            heartbeatDue = true;
+            return claimWriter();
+        }
+
+        /**
+         * Takes everything pending, or releases the writer role when there is
+         * nothing left so the next offer starts a new writer.
+         */
+        synchronized Outgoing take() {
+            if (pending.isEmpty() && !resyncDue && !heartbeatDue) {
+                writing = false;
+                return null;
+            }
+            Outgoing outgoing = new Outgoing(resyncDue, heartbeatDue, new ArrayList<>(pending.values()));
+            pending.clear();
+            resyncDue = false;
+            heartbeatDue = false;
+            return outgoing;
+        }
+
+        private boolean claimWriter() {
+            if (writing) {
+                return false;
+            }
+            writing = true;
+            return true;
+        }
+    }
+}
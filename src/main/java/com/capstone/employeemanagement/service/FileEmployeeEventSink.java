@@ -0,0 +1,64 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends change events to a local file as JSON lines, one event per line.
+ * Each batch is written with a single call and forced to disk before it is
+ * acknowledged.  Useful as a stand-in for a log-based broker or as an
+ * incremental feed for batch consumers.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.file-sink", name = "path")
+public class FileEmployeeEventSink implements EmployeeEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileEmployeeEventSink(@Value("${app.outbox.file-sink.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized int publish(List<EmployeeChangeEvent> events) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            for (EmployeeChangeEvent event : events) {
+                objectMapper.writeValue(buffer, event);
+                buffer.write('\n');
+            }
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to append employee events to {}", path, ex);
+            return 0;
+        }
+        return events.size();
+    }
+}
@@ -0,0 +1,264 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.IdempotencyRecord;
+import com.capstone.employeemanagement.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stores the responses of write requests sent with an {@code Idempotency-Key}
+ * so that a retried request replays the original response instead of
+ * performing the write again.
+ * <p>
+ * Completed responses live in a bounded in-memory index in front of the
+ * {@code idempotency_keys} table; both expire after the configured TTL.
+ * Duplicates arriving while the original is still running on this instance
+ * wait for its result; a key owned by another instance is reported as in
+ * progress.  An in-flight key is leased to its instance, which keeps
+ * extending the lease while the request runs; if the instance dies, the
+ * lease lapses and a retry takes the key over instead of waiting for the
+ * TTL.  Each claim carries its own owner token, so an owner that lost its
+ * key that way can no longer complete, release or renew it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    /**
+     * Response captured for replay.
+     */
+    public record StoredResponse(int status, String contentType, byte[] body, String requestHash) {
+    }
+
+    /**
+     * Result of {@link #begin}.
+     */
+    public sealed interface Outcome permits Proceed, Replay, Mismatch, InProgress {
+    }
+
+    /** The caller owns the key and must finish with {@link #complete} or {@link #abort}. */
+    public record Proceed() implements Outcome {
+    }
+
+    /** A response is already stored for this key. */
+    public record Replay(StoredResponse response) implements Outcome {
+    }
+
+    /** The key was used before for a different request. */
+    public record Mismatch() implements Outcome {
+    }
+
+    /** Another request with this key is still running. */
+    public record InProgress() implements Outcome {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, String> ownerTokens = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> completed = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.idempotency.wait-timeout:PT10S}")
+    private Duration waitTimeout;
+
+    @Value("${app.idempotency.lease:PT30S}")
+    private Duration lease;
+
+    /**
+     * Starts processing a request with the given scoped key.
+     *
+     * @param key idempotency key, already scoped to the caller
+     * @param requestHash fingerprint of the request
+     * @return what the caller should do
+     */
+    public Outcome begin(String key, String requestHash) {
+        Optional<StoredResponse> cached = cachedResponse(key);
+        if (cached.isPresent()) {
+            return replayOrMismatch(cached.get(), requestHash);
+        }
+        CompletableFuture<StoredResponse> ours = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, ours);
+        if (running != null) {
+            return awaitRunning(running, requestHash);
+        }
+        Instant now = Instant.now();
+        // an expired row is taken over by the claim like an absent one
+        Optional<IdempotencyRecord> stored = idempotencyRecordRepository.findById(key)
+                .filter(record -> !record.getExpiresAt().isBefore(now));
+        if (stored.isPresent()) {
+            IdempotencyRecord record = stored.get();
+            if (record.getResponseStatus() == null) {
+                if (record.getLockedUntil() == null || !record.getLockedUntil().isBefore(now)) {
+                    finish(key, ours, null);
+                    return new InProgress();
+                }
+                log.info("Taking over idempotency key whose processing lease lapsed");
+                return claim(key, requestHash, now, ours);
+            }
+            StoredResponse response = new StoredResponse(record.getResponseStatus(), record.getContentType(),
+                    record.getResponseBody(), record.getRequestHash());
+            cache(key, response, record.getExpiresAt());
+            finish(key, ours, response);
+            return replayOrMismatch(response, requestHash);
+        }
+        return claim(key, requestHash, now, ours);
+    }
+
+    private Outcome claim(String key, String requestHash, Instant now, CompletableFuture<StoredResponse> ours) {
+        String ownerToken = UUID.randomUUID().toString();
+        if (idempotencyRecordRepository.tryClaim(key, requestHash, now, now.plus(ttl), now.plus(lease), ownerToken) == 0) {
+            finish(key, ours, null);
+            return new InProgress();
+        }
+        ownerTokens.put(key, ownerToken);
+        return new Proceed();
+    }
+
+    /**
+     * Stores the response of a request that returned {@link Proceed} and
+     * releases waiting duplicates.  Server errors are not stored, so the
+     * client may retry them.  If the key was taken over after the lease
+     * lapsed, the response is dropped: the new owner's response is the one
+     * replayed.
+     */
+    public void complete(String key, StoredResponse response) {
+        CompletableFuture<StoredResponse> ours = inFlight.get(key);
+        String ownerToken = ownerTokens.remove(key);
+        StoredResponse result = response;
+        try {
+            if (response.status() >= 500) {
+                idempotencyRecordRepository.release(key, ownerToken);
+            } else if (idempotencyRecordRepository.complete(key, ownerToken, response.status(),
+                    response.contentType(), response.body()) > 0) {
+                cache(key, response, Instant.now().plus(ttl));
+            } else {
+                log.warn("Idempotency key was taken over while its request ran; response not stored");
+                result = null;
+            }
+        } finally {
+            finish(key, ours, result);
+        }
+    }
+
+    /**
+     * Gives up a claimed key after the request failed without a response.
+     */
+    public void abort(String key) {
+        CompletableFuture<StoredResponse> ours = inFlight.get(key);
+        String ownerToken = ownerTokens.remove(key);
+        try {
+            idempotencyRecordRepository.release(key, ownerToken);
+        } finally {
+            finish(key, ours, null);
+        }
+    }
+
+    /**
+     * Extends the leases of the keys this instance is processing.  Runs well
+     * within the lease, so a slow request keeps its key.  Keys taken over by
+     * another claim are not extended.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.lease-renewal-interval-ms:10000}")
+    public void renewLeases() {
+        Map<String, String> owned = Map.copyOf(ownerTokens);
+        if (owned.isEmpty()) {
+            return;
+        }
+        try {
+            int extended = idempotencyRecordRepository.extendLeases(owned.keySet(), owned.values(),
+                    Instant.now().plus(lease));
+            if (extended < owned.size()) {
+                log.debug("{} of {} in-flight idempotency keys were completed or taken over before their lease was renewed",
+                        owned.size() - extended, owned.size());
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Could not extend idempotency key leases", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        synchronized (completed) {
+            completed.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        }
+        int removed = idempotencyRecordRepository.deleteExpired(now);
+        if (removed > 0) {
+            log.debug("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private Outcome awaitRunning(CompletableFuture<StoredResponse> running, String requestHash) {
+        try {
+            StoredResponse response = running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return response == null ? new InProgress() : replayOrMismatch(response, requestHash);
+        } catch (TimeoutException | ExecutionException ex) {
+            return new InProgress();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new InProgress();
+        }
+    }
+
+    private static Outcome replayOrMismatch(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash) ? new Replay(response) : new Mismatch();
+    }
+
+    private Optional<StoredResponse> cachedResponse(String key) {
+        synchronized (completed) {
+            CachedResponse entry = completed.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt().isBefore(Instant.now())) {
+                completed.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.response());
+        }
+    }
+
+    private void cache(String key, StoredResponse response, Instant expiresAt) {
+        synchronized (completed) {
+            completed.put(key, new CachedResponse(response, expiresAt));
+        }
+    }
+
+    private void finish(String key, CompletableFuture<StoredResponse> future, StoredResponse response) {
+        if (future != null) {
+            inFlight.remove(key, future);
+            future.complete(response);
+        }
+    }
+
+    private record CachedResponse(StoredResponse response, Instant expiresAt) {
+    }
+}
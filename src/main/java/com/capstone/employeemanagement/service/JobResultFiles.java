@@ -0,0 +1,132 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.BulkJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * CSV files written by bulk jobs, one per job.  The file length is
+ * checkpointed with every chunk; a resumed job truncates the file to that
+ * length before continuing, so rows are never duplicated.  The directory
+ * must be shared between instances for results to be downloadable from any
+ * of them.  Files are deleted together with their jobs once those expire.
+ */
+@Component
+public class JobResultFiles {
+
+    @Value("${app.jobs.export-dir:${java.io.tmpdir}/employee-exports}")
+    private Path directory;
+
+    /**
+     * The file a job writes to.
+     */
+    public Path file(UUID jobId) {
+        return directory.resolve(jobId + ".csv");
+    }
+
+    /**
+     * Deletes a job's file, if it has one.
+     */
+    public void delete(UUID jobId) throws IOException {
+        Files.deleteIfExists(file(jobId));
+    }
+
+    /**
+     * Opens a job's file at its checkpointed length, writing the header if
+     * the job has not written anything yet.
+     *
+     * @throws IOException if the file is shorter than the checkpoint, i.e.
+     *                     it was lost or belongs to a different directory
+     */
+    public CsvFile open(BulkJob job, String header) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(file(job.getId()), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < job.getOutputBytes()) {
+                throw new IOException("Result file is shorter than its checkpoint");
+            }
+            CsvFile file = new CsvFile(channel, header);
+            file.rewind(job.getOutputBytes());
+            return file;
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * An open result file.
+     */
+    public static final class CsvFile implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final String header;
+
+        private CsvFile(FileChannel channel, String header) {
+            this.channel = channel;
+            this.header = header;
+        }
+
+        /**
+         * Appends text and forces it to disk, so it is durable before the
+         * checkpoint that records the new length commits.
+         */
+        public void append(CharSequence text) throws IOException {
+            write(text);
+            channel.force(false);
+        }
+
+        /**
+         * Length of the file as written so far.
+         */
+        public long length() {
+            try {
+                return channel.position();
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unable to read result file position", ex);
+            }
+        }
+
+        /**
+         * Discards everything after the given length.
+         */
+        public void rewind(long length) throws IOException {
+            channel.truncate(length);
+            channel.position(length);
+            if (length == 0) {
+                write(header);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void write(CharSequence text) throws IOException {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it contains a delimiter, quote or line break.
+     */
+    public static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
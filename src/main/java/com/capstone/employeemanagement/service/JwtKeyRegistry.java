@@ -0,0 +1,187 @@
+package com.capstone.employeemanagement.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the keys used to sign and verify access tokens.  With
+ * {@code jwt.algorithm=HS256} tokens are signed with the shared secret as
+ * before.  With {@code ES256} they are signed with the current EC P-256 key
+ * and carry its {@code kid}; the matching public key and any retired public
+ * keys still within their tokens' lifetime are accepted for verification and
+ * published as a JSON Web Key Set, so other services can verify tokens
+ * locally and cache the set instead of sharing a secret.  Rotating a key means
+ * deploying a new current key and moving the old public key to
+ * {@code jwt.es256.previous-public-keys} for at least one access-token
+ * lifetime.
+ * <p>
+ * After switching to ES256, tokens without a {@code kid} are verified with
+ * the shared secret only until {@code jwt.hs256-accept-until}, an absolute
+ * instant shared by every instance; set it to one access-token lifetime after
+ * the switch is rolled out.  Without it, secret-signed tokens are rejected
+ * from the start.  Either way the secret can no longer be used to forge
+ * tokens once the cutoff has passed, however often instances restart.
+ */
+@Component
+public class JwtKeyRegistry extends SigningKeyResolverAdapter {
+
+    @Value("${jwt.algorithm:HS256}")
+    private SignatureAlgorithm algorithm;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    /**
+     * Instant after which secret-signed tokens are rejected in ES256 mode;
+     * blank to reject them outright.
+     */
+    @Value("${jwt.hs256-accept-until:}")
+    private String hs256AcceptUntil;
+
+    @Value("${jwt.es256.key-id:}")
+    private String keyId;
+
+    @Value("${jwt.es256.private-key:}")
+    private String privateKey;
+
+    @Value("${jwt.es256.public-key:}")
+    private String publicKey;
+
+    /**
+     * Retired verification keys as {@code kid=Base64 X.509 public key}.
+     */
+    @Value("${jwt.es256.previous-public-keys:}")
+    private String[] previousPublicKeys;
+
+    private Key hmacKey;
+    private Key signingKey;
+    private Instant hmacAcceptedUntil;
+    private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    private Map<String, Object> jwks = Map.of("keys", List.of());
+
+    @PostConstruct
+    void load() throws GeneralSecurityException {
+        hmacKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        if (algorithm == SignatureAlgorithm.HS256) {
+            signingKey = hmacKey;
+            return;
+        }
+        if (algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("Unsupported jwt.algorithm " + algorithm + "; use HS256 or ES256");
+        }
+        if (!StringUtils.hasText(keyId) || !StringUtils.hasText(privateKey) || !StringUtils.hasText(publicKey)) {
+            throw new IllegalStateException("jwt.es256.key-id, private-key and public-key are required for ES256");
+        }
+        hmacAcceptedUntil = StringUtils.hasText(hs256AcceptUntil) ? Instant.parse(hs256AcceptUntil.trim()) : Instant.MIN;
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+        verificationKeys.put(keyId, decodePublicKey(keyFactory, publicKey));
+        for (String entry : previousPublicKeys) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalStateException("jwt.es256.previous-public-keys entries must be kid=key");
+            }
+            verificationKeys.put(parts[0], decodePublicKey(keyFactory, parts[1]));
+        }
+        List<Map<String, Object>> keys = new ArrayList<>();
+        verificationKeys.forEach((kid, key) -> keys.add(toJwk(kid, (ECPublicKey) key)));
+        jwks = Map.of("keys", List.copyOf(keys));
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * The {@code kid} header for new tokens, or {@code null} for HS256.
+     */
+    public String getSigningKeyId() {
+        return algorithm == SignatureAlgorithm.HS256 ? null : keyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * The public verification keys in JWKS form.  Empty when tokens are
+     * signed with the shared secret.
+     */
+    public Map<String, Object> getJwks() {
+        return jwks;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            // tokens issued before the switch to asymmetric signing
+            if (SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                if (algorithm != SignatureAlgorithm.HS256 && Instant.now().isAfter(hmacAcceptedUntil)) {
+                    throw new SignatureException("Tokens signed with the shared secret are no longer accepted");
+                }
+                return hmacKey;
+            }
+            throw new SignatureException("Token has no key id");
+        }
+        Key key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown key id " + kid);
+        }
+        return key;
+    }
+
+    private static PublicKey decodePublicKey(KeyFactory keyFactory, String encoded) throws GeneralSecurityException {
+        return keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded.trim())));
+    }
+
+    private static Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("x", encoder.encodeToString(toCoordinate(key.getW().getAffineX())));
+        jwk.put("y", encoder.encodeToString(toCoordinate(key.getW().getAffineY())));
+        return jwk;
+    }
+
+    /**
+     * Encodes a P-256 coordinate as the fixed 32-byte big-endian value JWK
+     * requires.
+     */
+    private static byte[] toCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] coordinate = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, coordinate, 32 - length, length);
+        return coordinate;
+    }
+}
@@ -1,45 +1,83 @@
 package com.capstone.employeemanagement.service;
 
+import com.capstone.employeemanagement.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
  * Service responsible for generating and validating JSON Web Tokens (JWT).
- * Tokens carry information about the authenticated user and are signed using a
- * secret key loaded from application configuration.  The implementation uses
- * the jjwt library to build and parse tokens.  Stateless JWTs are preferred
- * over session‑based authentication in modern distributed systems because they
- * are scalable and secure【927998871578655†L118-L125】.
+ * Tokens carry information about the authenticated user and are signed with
+ * the key supplied by {@link JwtKeyRegistry}.  The implementation uses the
+ * jjwt library to build and parse tokens.  Stateless JWTs are preferred over
+ * session‑based authentication in modern distributed systems because they
+ * are scalable and secure【927998871578655†L118-L125】.  Access tokens are
+ * short-lived and carry the user's role, so requests are authenticated from
+ * the token alone; revocation takes effect when the next refresh is refused.
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
     /**
-     * Secret used to sign the JWT.  Should be at least 256 bits (32 bytes) for
-     * the HS256 algorithm.  The value is expected to be Base64‑encoded and
-     * configured in the application properties.
+     * Claim carrying the user's role name.
      */
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    public static final String ROLE_CLAIM = "role";
 
     /**
-     * Token expiration time in milliseconds.
+     * Claim carrying the user's tenant.
+     */
+    public static final String TENANT_CLAIM = "tenant";
+
+    /**
+     * Claim carrying the email an invite was issued for.  Only invite tokens
+     * have it; they have no subject and never authenticate a request.
+     */
+    public static final String INVITE_EMAIL_CLAIM = "invite_email";
+
+    /**
+     * An invite to register in a tenant, see {@link #generateInviteToken}.
+     */
+    public record Invite(String tenantId, String email, Date expiresAt) {
+    }
+
+    private final JwtKeyRegistry keyRegistry;
+
+    /**
+     * Access token expiration time in milliseconds.
      */
     @Value("${jwt.expiration-ms}")
     private long jwtExpirationMs;
 
+    /**
+     * How long an invite can be used to register.
+     */
+    @Value("${jwt.invite-ttl:P7D}")
+    private Duration inviteTtl;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRegistry)
+                .build();
+    }
+
     /**
      * Generates a JWT with custom claims and the provided user details.  The
      * username is stored as the subject and roles or other attributes can be
@@ -52,23 +90,84 @@ public class JwtService {
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtExpirationMs);
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        String keyId = keyRegistry.getSigningKeyId();
+        if (keyId != null) {
+            builder.setHeaderParam("kid", keyId);
+        }
+        return builder
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(keyRegistry.getSigningKey(), keyRegistry.getAlgorithm())
                 .compact();
     }
 
     /**
-     * Generates a JWT for a user without any additional claims.
+     * Generates a JWT for a user carrying the user's role and tenant.
      *
      * @param userDetails authenticated user
      * @return JWT token
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(Map.of(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .findFirst()
+                .ifPresent(authority -> claims.put(ROLE_CLAIM, authority.substring("ROLE_".length())));
+        if (userDetails instanceof User user) {
+            claims.put(TENANT_CLAIM, user.getTenantId());
+        }
+        return generateToken(claims, userDetails);
+    }
+
+    /**
+     * Generates an invite that lets whoever registers with the given email
+     * join the tenant.  Registration is unauthenticated, so the invite is
+     * what names the tenant; the email binds it to a single account.
+     *
+     * @param tenantId tenant the new account will belong to
+     * @param email    email the account must be registered with
+     * @return the signed invite
+     */
+    public String generateInviteToken(String tenantId, String email) {
+        Date now = new Date();
+        JwtBuilder builder = Jwts.builder();
+        String keyId = keyRegistry.getSigningKeyId();
+        if (keyId != null) {
+            builder.setHeaderParam("kid", keyId);
+        }
+        return builder
+                .claim(TENANT_CLAIM, tenantId)
+                .claim(INVITE_EMAIL_CLAIM, email)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + inviteTtl.toMillis()))
+                .signWith(keyRegistry.getSigningKey(), keyRegistry.getAlgorithm())
+                .compact();
+    }
+
+    /**
+     * Verifies an invite issued by {@link #generateInviteToken}.
+     *
+     * @throws JwtException if the token is not a valid, unexpired invite
+     */
+    public Invite parseInvite(String token) {
+        Claims claims = extractAllClaims(token);
+        String tenantId = claims.get(TENANT_CLAIM, String.class);
+        String email = claims.get(INVITE_EMAIL_CLAIM, String.class);
+        if (!isInvite(claims) || claims.getSubject() != null || tenantId == null) {
+            throw new JwtException("Not an invite");
+        }
+        return new Invite(tenantId, email, claims.getExpiration());
+    }
+
+    /**
+     * Whether the claims belong to an invite rather than an access token.
+     */
+    public static boolean isInvite(Claims claims) {
+        return claims.get(INVITE_EMAIL_CLAIM) != null;
     }
 
     /**
@@ -129,28 +228,14 @@ public class JwtService {
     }
 
     /**
-     * Parses all claims from the token using the signing key.  If the token is
-     * malformed or the signature is invalid an exception will be thrown.
+     * Parses and verifies the token once, resolving the verification key from
+     * its {@code kid}.  Expired, malformed or wrongly signed tokens throw a
+     * {@link io.jsonwebtoken.JwtException}.
      *
      * @param token JWT to parse
      * @return claims contained in the token
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Decodes the Base64 encoded secret and returns it as a {@link Key}.
-     *
-     * @return signing key
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-        return key;
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
\ No newline at end of file
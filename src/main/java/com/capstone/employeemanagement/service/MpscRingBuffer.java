@@ -0,0 +1,94 @@
+package com.capstone.employeemanagement.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and a single consumer.
+ * Producers claim a slot with one CAS on the tail counter and publish the
+ * element with an ordered store; the consumer treats a {@code null} slot as
+ * not yet published.  {@link #offer} never blocks and fails when the buffer
+ * is full, leaving the overflow policy to the caller.
+ *
+ * @param <E> element type
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param requestedCapacity minimum capacity; rounded up to a power of two
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = 1;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Adds an element if there is room.  Safe to call from any thread.
+     *
+     * @return {@code false} if the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) claimed & mask, element);
+        return true;
+    }
+
+    /**
+     * Removes up to {@code maxElements} published elements in FIFO order.
+     * Must only be called from the single consumer thread.
+     *
+     * @return number of elements handed to the consumer
+     */
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) position & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        head.lazySet(position);
+        return drained;
+    }
+
+    /**
+     * Approximate number of buffered elements.
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
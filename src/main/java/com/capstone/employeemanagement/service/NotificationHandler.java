@@ -0,0 +1,39 @@
+package com.capstone.employeemanagement.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Receives the PostgreSQL notifications of one channel from the shared
+ * {@link NotificationListener}.  Both methods are called on the listener
+ * thread, so they should hand off anything slow.
+ */
+public interface NotificationHandler {
+
+    String channel();
+
+    /**
+     * Whether the listener should listen on the channel at all.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Handles the payloads received on the channel within one coalescing
+     * window, in arrival order.
+     *
+     * @param connection the listener's own connection to the primary, for
+     *                   reading what the notifications refer to
+     * @throws SQLException if the connection failed; the listener reconnects
+     */
+    void onNotifications(List<String> payloads, Connection connection) throws SQLException;
+
+    /**
+     * Called after the listener reconnected.  Notifications sent while it
+     * was disconnected are lost, so local state derived from them must be
+     * rebuilt.
+     */
+    void onReconnect();
+}
@@ -0,0 +1,225 @@
+package com.capstone.employeemanagement.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives PostgreSQL {@code LISTEN/NOTIFY} notifications for every
+ * {@link NotificationHandler} on one dedicated connection to the primary,
+ * outside the pool.  Notifications arriving within the coalescing window are
+ * collected and handed to the handler of their channel together, so a burst
+ * costs one pass per handler.  When the connection is lost the listener
+ * reconnects after a delay and tells every handler, as notifications sent in
+ * the meantime are lost.
+ * <p>
+ * Senders use {@link #notify} within their transaction, so a notification
+ * is delivered when, and only if, the transaction commits, and
+ * {@link #payloads} to split long key lists below the payload limit.
+ */
+@Slf4j
+@Component
+public class NotificationListener {
+
+    /**
+     * Kept below PostgreSQL's 8000 byte payload limit.
+     */
+    static final int MAX_PAYLOAD_LENGTH = 7800;
+
+    private final Map<String, NotificationHandler> handlers = new LinkedHashMap<>();
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${app.notifications.poll-interval-ms:10000}")
+    private int pollIntervalMs;
+
+    @Value("${app.notifications.coalesce-window-ms:50}")
+    private long coalesceWindowMs;
+
+    @Value("${app.notifications.reconnect-delay:PT5S}")
+    private Duration reconnectDelay;
+
+    private Thread listener;
+    private volatile Connection connection;
+    private volatile boolean running;
+
+    public NotificationListener(List<NotificationHandler> handlers, DataSourceProperties dataSourceProperties) {
+        for (NotificationHandler handler : handlers) {
+            if (handler.isEnabled() && this.handlers.putIfAbsent(handler.channel(), handler) != null) {
+                throw new IllegalStateException("More than one handler for channel " + handler.channel());
+            }
+        }
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @PostConstruct
+    void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "notification-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Sends notifications on the connection of the current transaction.
+     */
+    public static void notify(EntityManager entityManager, String channel, List<String> payloads) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                for (String payload : payloads) {
+                    statement.setString(1, channel);
+                    statement.setString(2, payload);
+                    statement.execute();
+                }
+            }
+        });
+    }
+
+    /**
+     * Joins keys with commas into as few payloads as fit the size limit,
+     * each starting with the given prefix.
+     */
+    public static List<String> payloads(String prefix, Iterable<String> keys) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        for (String key : keys) {
+            if (payload.length() > prefix.length() && payload.length() + key.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(prefix.length());
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(',');
+            }
+            payload.append(key);
+        }
+        if (payload.length() > prefix.length()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    private void listenLoop() {
+        boolean gap = false;
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    for (String channel : handlers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                if (gap) {
+                    log.info("Notification listener reconnected; notifying handlers of the gap");
+                    handlers.values().forEach(NotificationListener::reconnected);
+                    gap = false;
+                }
+                receive(listening);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                gap = true;
+                log.warn("Notification listener disconnected; retrying in {}", reconnectDelay, ex);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        PGConnection pgConnection = listening.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] received = pgConnection.getNotifications(pollIntervalMs);
+            if (received == null || received.length == 0) {
+                // an idle socket does not notice a dead server on its own
+                if (!listening.isValid(5)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            Map<String, List<String>> byChannel = new LinkedHashMap<>();
+            collect(byChannel, received);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceWindowMs);
+            long remainingMs;
+            while ((remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                PGNotification[] more = pgConnection.getNotifications((int) remainingMs);
+                if (more != null) {
+                    collect(byChannel, more);
+                }
+            }
+            for (Map.Entry<String, List<String>> entry : byChannel.entrySet()) {
+                NotificationHandler handler = handlers.get(entry.getKey());
+                if (handler == null) {
+                    continue;
+                }
+                try {
+                    handler.onNotifications(entry.getValue(), listening);
+                } catch (RuntimeException ex) {
+                    log.warn("Handler for channel {} failed", entry.getKey(), ex);
+                }
+            }
+        }
+    }
+
+    private static void collect(Map<String, List<String>> byChannel, PGNotification[] notifications) {
+        for (PGNotification notification : notifications) {
+            byChannel.computeIfAbsent(notification.getName(), channel -> new ArrayList<>())
+                    .add(notification.getParameter());
+        }
+    }
+
+    private static void reconnected(NotificationHandler handler) {
+        try {
+            handler.onReconnect();
+        } catch (RuntimeException ex) {
+            log.warn("Handler for channel {} failed to recover from the gap", handler.channel(), ex);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            // closing only to unblock the listener
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import com.capstone.employeemanagement.model.OutboxEvent;
+import com.capstone.employeemanagement.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Background relay that publishes outbox events to every
+ * {@link EmployeeEventSink} in batches and announces them through
+ * {@link EmployeeEventBroadcast}, which streams them to the subscribers of
+ * every instance.  Only one instance relays at a time
+ * (guarded by an advisory lock), and events are offered strictly in sequence
+ * order, so all events of an employee are delivered in the order they were
+ * committed.  When a sink accepts only part of a batch the relay stops until
+ * the next tick; unpublished events simply wait in the table, which acts as a
+ * durable buffer.  An event is marked published once every sink accepted it;
+ * until then the relay remembers which sinks already have it so they are not
+ * offered it twice.  Without any sink, events are published as soon as they
+ * are read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    /**
+     * Advisory lock key shared by all instances relaying the outbox.
+     */
+    private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    /**
+     * Maximum number of batches relayed per tick, so a large backlog does not
+     * monopolise the scheduler thread.
+     */
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxService outboxService;
+    private final ObjectProvider<EmployeeEventSink> sinks;
+    private final EmployeeEventBroadcast broadcast;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Sequence numbers each sink accepted that are not yet marked published.
+     * Only touched by the scheduler thread.
+     */
+    private final Map<EmployeeEventSink, Set<Long>> acceptedBySink = new HashMap<>();
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.retention:P7D}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
+    public void relay() {
+        List<EmployeeEventSink> targets = sinks.orderedStream().toList();
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            Boolean drained = transactionTemplate.execute(status -> relayBatch(targets));
+            if (!Boolean.FALSE.equals(drained)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Relays one batch.  Returns {@code true} when there is nothing more to do
+     * in this run: the outbox is drained, a sink applied backpressure or
+     * another instance holds the relay lock.
+     */
+    private boolean relayBatch(List<EmployeeEventSink> targets) {
+        if (!outboxEventRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+            return true;
+        }
+        List<OutboxEvent> pending = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return true;
+        }
+        List<EmployeeChangeEvent> events = pending.stream().map(outboxService::toChangeEvent).toList();
+        for (EmployeeEventSink sink : targets) {
+            offer(sink, events);
+        }
+        int accepted = 0;
+        while (accepted < pending.size() && acceptedByAll(targets, pending.get(accepted).getId())) {
+            accepted++;
+        }
+        if (accepted > 0) {
+            List<Long> ids = pending.subList(0, accepted).stream().map(OutboxEvent::getId).toList();
+            outboxEventRepository.markPublished(ids, Instant.now());
+            broadcast.announce(ids);
+            acceptedBySink.values().forEach(sequences -> ids.forEach(sequences::remove));
+        }
+        return accepted < batchSize;
+    }
+
+    /**
+     * Offers the events a sink has not accepted yet and records what it took.
+     */
+    private void offer(EmployeeEventSink sink, List<EmployeeChangeEvent> events) {
+        Set<Long> accepted = acceptedBySink.computeIfAbsent(sink, s -> new HashSet<>());
+        List<EmployeeChangeEvent> outstanding = events.stream()
+                .filter(event -> !accepted.contains(event.getSequence()))
+                .toList();
+        if (outstanding.isEmpty()) {
+            return;
+        }
+        int count;
+        try {
+            count = sink.publish(outstanding);
+        } catch (RuntimeException ex) {
+            log.warn("Employee event sink {} failed; retrying later", sink.getClass().getSimpleName(), ex);
+            return;
+        }
+        for (int i = 0; i < count && i < outstanding.size(); i++) {
+            accepted.add(outstanding.get(i).getSequence());
+        }
+    }
+
+    private boolean acceptedByAll(List<EmployeeEventSink> targets, Long sequence) {
+        for (EmployeeEventSink sink : targets) {
+            if (!acceptedBySink.get(sink).contains(sequence)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes published events once they are older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        Integer removed = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        if (removed != null && removed > 0) {
+            log.debug("Purged {} published outbox events", removed);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import com.capstone.employeemanagement.dto.EmployeeResponse;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.OutboxEvent;
+import com.capstone.employeemanagement.repository.OutboxEventRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Writes employee change events to the transactional outbox.  Appending
+ * requires an existing transaction so that the event commits or rolls back
+ * together with the change it describes.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records a change event in the current transaction, for the current
+     * tenant.
+     *
+     * @param type kind of change
+     * @param employeeId identifier of the affected employee
+     * @param employee state after the change, or {@code null} for deletions
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EmployeeEventType type, Long employeeId, EmployeeResponse employee) {
+        OutboxEvent event = OutboxEvent.builder()
+                .tenantId(TenantContext.getTenantId())
+                .employeeId(employeeId)
+                .type(type)
+                .payload(employee == null ? null : toJson(employee))
+                .createdAt(Instant.now())
+                .build();
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Converts a stored outbox row into the event handed to sinks.
+     */
+    public EmployeeChangeEvent toChangeEvent(OutboxEvent event) {
+        return EmployeeChangeEvent.builder()
+                .sequence(event.getId())
+                .tenantId(event.getTenantId())
+                .type(event.getType())
+                .employeeId(event.getEmployeeId())
+                .occurredAt(event.getCreatedAt())
+                .employee(event.getPayload())
+                .build();
+    }
+
+    private String toJson(EmployeeResponse employee) {
+        try {
+            return objectMapper.writeValueAsString(employee);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize employee change event", ex);
+        }
+    }
+}
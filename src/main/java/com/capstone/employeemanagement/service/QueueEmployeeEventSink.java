@@ -0,0 +1,58 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for a message queue.  Events are buffered in a bounded
+ * queue that local consumers drain; when the queue is full the sink accepts
+ * only what fits, which holds back the outbox relay until consumers catch up.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.queue-sink", name = "enabled", havingValue = "true")
+public class QueueEmployeeEventSink implements EmployeeEventSink {
+
+    private final BlockingQueue<EmployeeChangeEvent> queue;
+
+    public QueueEmployeeEventSink(@Value("${app.outbox.queue-sink.capacity:10000}") int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public int publish(List<EmployeeChangeEvent> events) {
+        int accepted = 0;
+        for (EmployeeChangeEvent event : events) {
+            if (!queue.offer(event)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Waits up to the given timeout for the next event.
+     *
+     * @return the next event, or {@code null} if none arrived in time
+     */
+    public EmployeeChangeEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    /**
+     * Moves up to {@code maxEvents} buffered events into the given collection.
+     *
+     * @return the number of events transferred
+     */
+    public int drainTo(Collection<? super EmployeeChangeEvent> target, int maxEvents) {
+        return queue.drainTo(target, maxEvents);
+    }
+}
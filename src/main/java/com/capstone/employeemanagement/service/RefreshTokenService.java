@@ -0,0 +1,181 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.AuditAction;
+import com.capstone.employeemanagement.model.RefreshToken;
+import com.capstone.employeemanagement.model.User;
+import com.capstone.employeemanagement.repository.RefreshTokenRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Issues and rotates refresh tokens.  A refresh token is an opaque random
+ * value that can be exchanged exactly once for a new access token and a
+ * successor refresh token.  Presenting a token that was already exchanged
+ * indicates it leaked, so every token of its family is revoked and the user
+ * has to log in again.
+ * <p>
+ * Refresh and logout are unauthenticated, so the tenant a request names
+ * cannot be trusted.  Both run in the tenant recorded with the token, see
+ * {@link #inTenantOf}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    /**
+     * A newly issued refresh token.  The token value is only ever held here
+     * and in the response to the client.
+     */
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    /**
+     * Result of a successful rotation.
+     */
+    public record Rotation(User user, IssuedToken next) {
+    }
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuditService auditService;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${jwt.refresh-token-ttl:P14D}")
+    private Duration refreshTokenTtl;
+
+    /**
+     * Starts a new token family for a fresh login or registration.
+     */
+    @Transactional
+    public IssuedToken issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Runs the action in the tenant the refresh token was issued in, which
+     * replaces the tenant of the request for its duration.  The action must
+     * start its own transaction, as a session opened earlier keeps the
+     * tenant it was opened with.  Unknown tokens leave the tenant as it is;
+     * {@link #rotate} and {@link #revoke} find nothing for them anyway.
+     */
+    public <T> T inTenantOf(String token, Supplier<T> action) {
+        Optional<String> tenantId = refreshTokenRepository.findTenantId(hash(token));
+        if (tenantId.isEmpty()) {
+            return action.get();
+        }
+        String previous = TenantContext.getTenantId();
+        TenantContext.setTenantId(tenantId.get());
+        try {
+            return action.get();
+        } finally {
+            TenantContext.setTenantId(previous);
+        }
+    }
+
+    /**
+     * Exchanges a refresh token for its successor.  Must run in the token's
+     * tenant, see {@link #inTenantOf}.  The token row is locked
+     * so concurrent refreshes with the same token are serialized and only the
+     * first succeeds.  A revoked family stays revoked even though the
+     * exception would normally roll the transaction back.
+     *
+     * @throws BadCredentialsException if the token is unknown, expired,
+     *                                 revoked or was already used
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public Rotation rotate(String token) {
+        RefreshToken current = refreshTokenRepository.findForUpdate(hash(token))
+                .filter(found -> found.getTenantId().equals(TenantContext.getTenantId()))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        Instant now = Instant.now();
+        if (current.getRevokedAt() != null || current.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException("Refresh token has expired or was revoked");
+        }
+        User user = current.getUser();
+        if (current.getRotatedAt() != null) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            auditService.record(AuditAction.REFRESH_TOKEN_REUSED, user.getUsername(), userTarget(user),
+                    "family " + current.getFamilyId());
+            log.warn("Refresh token reuse detected for user {}; revoked family {}", user.getId(), current.getFamilyId());
+            throw new BadCredentialsException("Refresh token has already been used");
+        }
+        current.setRotatedAt(now);
+        IssuedToken next = issue(user, current.getFamilyId());
+        auditService.recordAfterCommit(AuditAction.TOKEN_REFRESHED, user.getUsername(), userTarget(user), null);
+        return new Rotation(user, next);
+    }
+
+    /**
+     * Revokes the family of the given token, ending that login.  Unknown
+     * tokens are ignored so logout never reveals whether a token existed.
+     * Must run in the token's tenant, see {@link #inTenantOf}.
+     */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findForUpdate(hash(token))
+                .filter(found -> found.getTenantId().equals(TenantContext.getTenantId()))
+                .ifPresent(current -> {
+                    refreshTokenRepository.revokeFamily(current.getFamilyId(), Instant.now());
+                    User user = current.getUser();
+                    auditService.recordAfterCommit(AuditAction.LOGGED_OUT, user.getUsername(), userTarget(user), null);
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        int removed = refreshTokenRepository.deleteExpired(Instant.now());
+        if (removed > 0) {
+            log.debug("Purged {} expired refresh tokens", removed);
+        }
+    }
+
+    private IssuedToken issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(refreshTokenTtl);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tenantId(user.getTenantId())
+                .user(user)
+                .familyId(familyId)
+                .tokenHash(hash(token))
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build());
+        return new IssuedToken(token, expiresAt);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static String userTarget(User user) {
+        return "user:" + user.getId();
+    }
+}
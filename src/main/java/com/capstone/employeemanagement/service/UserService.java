@@ -1,10 +1,14 @@
 package com.capstone.employeemanagement.service;
 
 import com.capstone.employeemanagement.dto.*;
+import com.capstone.employeemanagement.exception.ConflictException;
+import com.capstone.employeemanagement.model.AuditAction;
 import com.capstone.employeemanagement.model.Role;
 import com.capstone.employeemanagement.model.User;
 import com.capstone.employeemanagement.repository.UserRepository;
+import com.capstone.employeemanagement.security.TenantContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -12,8 +16,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 import java.util.Optional;
 
@@ -21,7 +27,15 @@ import java.util.Optional;
  * Service encapsulating all user‑related business logic: registration,
  * authentication and loading user details for security.  The service uses
  * {@link UserRepository} for persistence, {@link PasswordEncoder} for hashing
- * passwords and {@link JwtService} for generating access tokens.
+ * passwords, {@link JwtService} for generating access tokens and
+ * {@link RefreshTokenService} for the rotating refresh tokens.
+ * Registrations and login attempts are written to the asynchronous
+ * {@link AuditService}.
+ * <p>
+ * Registration is unauthenticated, so the tenant of a new account never
+ * comes from the request: an invite issued by an administrator names it, and
+ * without one the account joins the default tenant if open registration is
+ * enabled.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,24 +44,79 @@ public class UserService implements UserDetailsService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.auth.open-registration:true}")
+    private boolean openRegistration;
 
     /**
-     * Registers a new user account.  If the username or email already exists
-     * a {@link IllegalArgumentException} is thrown.  The password is hashed
-     * using the configured {@link PasswordEncoder} before persistence.  A
-     * JWT is returned along with the newly created user’s public details.
+     * Registers a new user account in the tenant of the request's invite, or
+     * the default tenant without one.  If the username or email already
+     * exists there a {@link ConflictException} is thrown.  The password is
+     * hashed using the configured {@link PasswordEncoder} before persistence.
+     * A JWT is returned along with the newly created user’s public details.
+     * The account is created in its own transaction, opened once the tenant
+     * is set.
      *
      * @param request user registration data
      * @return authentication response containing the token and user info
+     * @throws BadCredentialsException if the invite is invalid, expired or
+     *                                 issued for another email, or there is
+     *                                 none and open registration is disabled
      */
-    @Transactional
     public AuthenticationResponse register(RegisterRequest request) {
+        String tenantId = registrationTenant(request);
+        String previous = TenantContext.getTenantId();
+        TenantContext.setTenantId(tenantId);
+        try {
+            return transactionTemplate.execute(status -> createUser(request));
+        } finally {
+            TenantContext.setTenantId(previous);
+        }
+    }
+
+    /**
+     * Issues an invite to the current tenant for the given email.
+     */
+    public InviteResponse invite(InviteRequest request) {
+        String tenantId = TenantContext.getTenantId();
+        String token = jwtService.generateInviteToken(tenantId, request.getEmail());
+        auditService.record(AuditAction.USER_INVITED, auditService.currentActor(), "invite:" + request.getEmail(), null);
+        return InviteResponse.builder()
+                .inviteToken(token)
+                .email(request.getEmail())
+                .expiresAt(jwtService.parseInvite(token).expiresAt().getTime())
+                .build();
+    }
+
+    private String registrationTenant(RegisterRequest request) {
+        if (request.getInviteToken() == null || request.getInviteToken().isBlank()) {
+            if (!openRegistration) {
+                throw new BadCredentialsException("Registration requires an invite");
+            }
+            return TenantContext.DEFAULT_TENANT;
+        }
+        JwtService.Invite invite;
+        try {
+            invite = jwtService.parseInvite(request.getInviteToken());
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new BadCredentialsException("Invalid invite");
+        }
+        if (!invite.email().equalsIgnoreCase(request.getEmail()) || !TenantContext.isValid(invite.tenantId())) {
+            throw new BadCredentialsException("Invalid invite");
+        }
+        return invite.tenantId();
+    }
+
+    private AuthenticationResponse createUser(RegisterRequest request) {
         // validate uniqueness
         if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username is already taken");
+            throw new ConflictException("Username is already taken");
         }
         if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email is already registered");
+            throw new ConflictException("Email is already registered");
         }
 
         // build the new user
@@ -58,49 +127,83 @@ public class UserService implements UserDetailsService {
                 .role(Role.USER)
                 .build();
         User saved = userRepository.save(newUser);
+        auditService.recordAfterCommit(AuditAction.USER_REGISTERED, saved.getUsername(), userTarget(saved), null);
 
-        // generate JWT token for the newly created user
-        String token = jwtService.generateToken(saved);
-        long expiresAt = jwtService.extractClaim(token, Claims::getExpiration).getTime();
-        return AuthenticationResponse.builder()
-                .accessToken(token)
-                .expiresAt(expiresAt)
-                .user(toUserResponse(saved))
-                .build();
+        // generate tokens for the newly created user
+        return issueTokens(saved, refreshTokenService.issue(saved));
     }
 
     /**
      * Authenticates an existing user.  Matches the provided password against
-     * the stored hash and returns a JWT if the credentials are valid.
+     * the stored hash and returns a JWT and a new refresh token family if the
+     * credentials are valid.
      *
      * @param request authentication request containing username/email and password
      * @return authentication response with token and user details
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthenticationResponse authenticate(AuthenticationRequest request) {
         String identifier = request.getUsernameOrEmail();
         Optional<User> optionalUser = userRepository.findByUsernameOrEmail(identifier, identifier);
-        User user = optionalUser.orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        if (optionalUser.isEmpty()) {
+            auditService.record(AuditAction.LOGIN_FAILED, identifier, null, "unknown user");
+            throw new UsernameNotFoundException("User not found");
+        }
+        User user = optionalUser.get();
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            auditService.record(AuditAction.LOGIN_FAILED, identifier, userTarget(user), "invalid password");
             throw new BadCredentialsException("Invalid credentials");
         }
+        auditService.record(AuditAction.LOGIN_SUCCEEDED, user.getUsername(), userTarget(user), null);
+        return issueTokens(user, refreshTokenService.issue(user));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token.  Runs in the tenant of the refresh token, whatever tenant the
+     * request names; the rotation is its own transaction so that its session
+     * is opened in that tenant.
+     *
+     * @param request the refresh token issued by a previous call
+     * @return authentication response with the new tokens
+     * @throws BadCredentialsException if the refresh token is not valid
+     */
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        String token = request.getRefreshToken();
+        return refreshTokenService.inTenantOf(token, () -> {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+            return issueTokens(rotation.user(), rotation.next());
+        });
+    }
+
+    /**
+     * Ends the login the refresh token belongs to.  Access tokens already
+     * issued stay valid until they expire.
+     *
+     * @param request the refresh token to revoke
+     */
+    public void logout(RefreshTokenRequest request) {
+        String token = request.getRefreshToken();
+        refreshTokenService.inTenantOf(token, () -> {
+            refreshTokenService.revoke(token);
+            return null;
+        });
+    }
+
+    private AuthenticationResponse issueTokens(User user, RefreshTokenService.IssuedToken refreshToken) {
         String token = jwtService.generateToken(user);
         long expiresAt = jwtService.extractClaim(token, Claims::getExpiration).getTime();
         return AuthenticationResponse.builder()
                 .accessToken(token)
                 .expiresAt(expiresAt)
+                .refreshToken(refreshToken.token())
+                .refreshExpiresAt(refreshToken.expiresAt().toEpochMilli())
                 .user(toUserResponse(user))
                 .build();
     }
 
-    /**
-     * Returns the expiration timestamp from a freshly generated token.
-     *
-     * @param token JWT token
-     * @return expiration in milliseconds since epoch
-     */
-    private long savedJwtExpiry(String token) {
-        return jwtService.extractClaim(token, Claims::getExpiration).getTime();
+    private static String userTarget(User user) {
+        return "user:" + user.getId();
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.capstone.employeemanagement.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts with additive increase / multiplicative
+ * decrease (AIMD).  While requests finish within the latency target and the
+ * limit is actually being used, it grows by roughly one per limit's worth of
+ * completions; a slow or failed request shrinks it by the backoff ratio, at
+ * most once per target interval so a single burst of slow responses is not
+ * counted many times over.  Requests of lower priority may only use a share
+ * of the limit, so they are turned away first as it shrinks.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Admission priority.  The share is the fraction of the current limit a
+     * request of this priority may occupy.
+     */
+    public enum Priority {
+        CRITICAL(1.0), NORMAL(0.9), SHEDDABLE(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private long lastDecreaseNanos = System.nanoTime();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for " + name + ": min " + minLimit + ", max " + maxLimit);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if the priority's share of the limit is not exhausted.
+     * Every successful call must be paired with {@link #release}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a slot and feeds the request's outcome into the limit.
+     *
+     * @param latencyNanos how long the request took
+     * @param failed       whether it failed in a way that indicates overload,
+     *                     such as a server error or a pool timeout
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyTargetNanos) {
+            decrease();
+        } else if (current * 2 >= limit) {
+            // only grow when the limit is the constraint, not idle headroom
+            increase();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    private synchronized void decrease() {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < latencyTargetNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+}
@@ -0,0 +1,46 @@
+package com.capstone.employeemanagement.web;
+
+import com.capstone.employeemanagement.dto.CachedJson;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link CachedJson} bodies as-is, bypassing Jackson.  Registered ahead
+ * of the JSON converter so pre-serialized responses are never re-encoded.
+ */
+public class CachedJsonHttpMessageConverter extends AbstractHttpMessageConverter<CachedJson> {
+
+    public CachedJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CachedJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CachedJson readInternal(Class<? extends CachedJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("CachedJson is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(CachedJson json, MediaType contentType) {
+        return (long) json.length();
+    }
+
+    @Override
+    protected void writeInternal(CachedJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,274 @@
+package com.capstone.employeemanagement.web;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Response wrapper that zstd-compresses the body once it is known to be worth
+ * it.  Output is buffered until it reaches the size threshold; small bodies
+ * are then written unchanged with their length, larger or explicitly flushed
+ * bodies of a compressible content type switch to a streaming compressor, so
+ * chunked responses of any size are compressed without being held in memory.
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String ZSTD = "zstd";
+
+    private final int threshold;
+    private final int level;
+    private final List<MediaType> compressibleTypes;
+
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private OutputStream compressor;
+    private boolean decided;
+    private long declaredLength = -1;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(HttpServletResponse response, int threshold, int level, List<MediaType> compressibleTypes) {
+        super(response);
+        this.threshold = threshold;
+        this.level = level;
+        this.compressibleTypes = compressibleTypes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            outputStream = new CompressingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        // the length is only known after deciding whether to compress
+        if (decided && compressor == null) {
+            super.setContentLengthLong(length);
+        } else {
+            declaredLength = length;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (!decided) {
+            decide(true);
+        }
+        target().flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (decided) {
+            throw new IllegalStateException("Response body has already been committed");
+        }
+        pending.reset();
+        super.resetBuffer();
+    }
+
+    /**
+     * Completes the body: writes a small buffered body uncompressed, or ends
+     * the compressed frame.
+     */
+    void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (!decided) {
+            decide(false);
+        }
+        if (compressor != null) {
+            compressor.close();
+        }
+    }
+
+    /**
+     * Chooses between plain and compressed output and releases the buffered
+     * bytes accordingly.
+     *
+     * @param streaming whether the body is known to exceed the threshold or
+     *                  is being flushed before completion
+     */
+    private void decide(boolean streaming) throws IOException {
+        decided = true;
+        boolean large = streaming || (declaredLength < 0 ? pending.size() >= threshold : declaredLength >= threshold);
+        if (large && isCompressible()) {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, ZSTD);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            compressor = new ZstdOutputStream(new NonClosingOutputStream(response.getOutputStream()), level);
+            pending.writeTo(compressor);
+        } else {
+            if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            } else if (!streaming) {
+                super.setContentLengthLong(pending.size());
+            }
+            pending.writeTo(getResponse().getOutputStream());
+        }
+        pending.reset();
+    }
+
+    private boolean isCompressible() {
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        int status = response.getStatus();
+        if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+            return false;
+        }
+        String contentType = getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return compressibleTypes.stream().anyMatch(type -> type.includes(mediaType));
+    }
+
+    private OutputStream target() throws IOException {
+        return compressor != null ? compressor : getResponse().getOutputStream();
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!decided) {
+                pending.write(b);
+                if (pending.size() >= threshold) {
+                    decide(true);
+                }
+                return;
+            }
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (!decided) {
+                pending.write(bytes, offset, length);
+                if (pending.size() >= threshold) {
+                    decide(true);
+                }
+                return;
+            }
+            target().write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // serializers flush after every body, so only an explicit
+            // flushBuffer() forces the decision before the threshold
+            if (decided) {
+                target().flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking writes are not supported");
+        }
+    }
+
+    /**
+     * Keeps the compressor from closing the servlet stream, which the
+     * container owns.
+     */
+    private static final class NonClosingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private NonClosingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.flush();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.capstone.employeemanagement.web;
+
+import com.capstone.employeemanagement.exception.ErrorResponse;
+import com.capstone.employeemanagement.security.TenantContext;
+import com.capstone.employeemanagement.service.IdempotencyService;
+import com.capstone.employeemanagement.service.IdempotencyService.InProgress;
+import com.capstone.employeemanagement.service.IdempotencyService.Mismatch;
+import com.capstone.employeemanagement.service.IdempotencyService.Outcome;
+import com.capstone.employeemanagement.service.IdempotencyService.Replay;
+import com.capstone.employeemanagement.service.IdempotencyService.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies {@code Idempotency-Key} semantics to the write endpoints.  A request
+ * carrying the header is fingerprinted (method, path and body) and handed to
+ * {@link IdempotencyService}: the first request runs normally and its
+ * response is stored, a retry with the same key replays that response with
+ * an {@code Idempotent-Replayed} header, reusing a key for a different
+ * request yields 422 and a retry racing the original on another instance
+ * yields 409.  Keys are scoped to the tenant and authenticated user, so the
+ * filter runs after authorization.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_STORED_KEY_LENGTH = 320;
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (clientKey.isEmpty() || clientKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        CachedBodyRequestWrapper wrappedRequest = new CachedBodyRequestWrapper(request);
+        String key = scopedKey(clientKey);
+        String requestHash = fingerprint(wrappedRequest);
+
+        Outcome outcome = idempotencyService.begin(key, requestHash);
+        if (outcome instanceof Replay replay) {
+            replay(replay.response(), response);
+            return;
+        }
+        if (outcome instanceof Mismatch) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        if (outcome instanceof InProgress) {
+            writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+            return;
+        }
+
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            idempotencyService.abort(key);
+            throw ex;
+        }
+        idempotencyService.complete(key, new StoredResponse(wrappedResponse.getStatus(),
+                wrappedResponse.getContentType(), wrappedResponse.getContentAsByteArray(), requestHash));
+        wrappedResponse.copyBodyToResponse();
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        byte[] body = stored.body();
+        if (body != null && body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(List.of(message))
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static String fingerprint(CachedBodyRequestWrapper request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Scopes the client's key to the tenant and user.  Keys that would not
+     * fit the key column are replaced by their hash.
+     */
+    private static String scopedKey(String clientKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String user = authentication == null ? "anonymous" : authentication.getName();
+        String key = TenantContext.getTenantId() + ":" + user + ":" + clientKey;
+        if (key.length() <= MAX_STORED_KEY_LENGTH) {
+            return key;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return "sha256:" + HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
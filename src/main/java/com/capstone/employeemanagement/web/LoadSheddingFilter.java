@@ -0,0 +1,155 @@
+package com.capstone.employeemanagement.web;
+
+import com.capstone.employeemanagement.exception.ErrorResponse;
+import com.capstone.employeemanagement.web.AdaptiveConcurrencyLimiter.Priority;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Sheds load before it queues up.  API requests pass through an
+ * {@link AdaptiveConcurrencyLimiter} whose limit follows observed latency, so
+ * once the connection pool or CPU saturates, excess requests get an immediate
+ * 503 with {@code Retry-After} instead of waiting until they time out.
+ * Single-employee reads are critical and keep the whole limit; bulk, job and
+ * export requests and oversized list pages are shed first.  Registration,
+ * login and refresh run BCrypt or token rotation and have a separate, smaller
+ * limiter so a password-guessing burst cannot starve the rest of the API.
+ * Runs ahead of the security chain so rejected requests cost almost nothing;
+ * the event stream is excluded as its requests are long-lived by design.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+@RequiredArgsConstructor
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final Pattern EMPLOYEE_BY_ID = Pattern.compile("^/api/employees/\\d+$");
+    private static final Pattern SHEDDABLE_PATH = Pattern.compile("/(jobs|bulk|export)(/|$)");
+    private static final int LARGE_PAGE_SIZE = 100;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.load-shedding.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.load-shedding.api.initial-limit:40}")
+    private int apiInitialLimit;
+
+    @Value("${app.load-shedding.api.min-limit:4}")
+    private int apiMinLimit;
+
+    @Value("${app.load-shedding.api.max-limit:400}")
+    private int apiMaxLimit;
+
+    @Value("${app.load-shedding.api.latency-target:PT0.5S}")
+    private Duration apiLatencyTarget;
+
+    @Value("${app.load-shedding.auth.max-limit:#{T(java.lang.Runtime).getRuntime().availableProcessors() * 2}}")
+    private int authMaxLimit;
+
+    @Value("${app.load-shedding.auth.latency-target:PT1S}")
+    private Duration authLatencyTarget;
+
+    @Value("${app.load-shedding.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    private AdaptiveConcurrencyLimiter apiLimiter;
+    private AdaptiveConcurrencyLimiter authLimiter;
+    private byte[] rejectionBody;
+
+    @PostConstruct
+    void init() throws JsonProcessingException {
+        apiLimiter = new AdaptiveConcurrencyLimiter("api", apiInitialLimit, apiMinLimit, apiMaxLimit,
+                apiLatencyTarget.toNanos());
+        authLimiter = new AdaptiveConcurrencyLimiter("auth", authMaxLimit, 1, authMaxLimit,
+                authLatencyTarget.toNanos());
+        rejectionBody = objectMapper.writeValueAsBytes(ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(List.of("The service is overloaded; retry after the number of seconds in Retry-After"))
+                .build());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || !uri.startsWith("/api/") || uri.endsWith("/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        AdaptiveConcurrencyLimiter limiter = isCredentialPath(uri) ? authLimiter : apiLimiter;
+        if (!limiter.tryAcquire(priorityOf(request))) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(rejectionBody.length);
+            response.getOutputStream().write(rejectionBody);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getApiLimiter() {
+        return apiLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getAuthLimiter() {
+        return authLimiter;
+    }
+
+    private static boolean isCredentialPath(String uri) {
+        return uri.equals("/api/auth/login") || uri.equals("/api/auth/register") || uri.equals("/api/auth/refresh");
+    }
+
+    private static Priority priorityOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        boolean read = HttpMethod.GET.matches(request.getMethod());
+        if (read && EMPLOYEE_BY_ID.matcher(uri).matches()) {
+            return Priority.CRITICAL;
+        }
+        if (SHEDDABLE_PATH.matcher(uri).find() || (read && isLargePage(request.getParameter("size")))) {
+            return Priority.SHEDDABLE;
+        }
+        return Priority.NORMAL;
+    }
+
+    private static boolean isLargePage(String size) {
+        if (size == null) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(size) > LARGE_PAGE_SIZE;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
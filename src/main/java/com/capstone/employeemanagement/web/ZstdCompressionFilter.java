@@ -0,0 +1,107 @@
+package com.capstone.employeemanagement.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compresses responses with zstd for clients that prefer it.  Tomcat already
+ * negotiates gzip from the {@code server.compression} settings; this filter
+ * handles {@code zstd}, which the container does not know, using the same
+ * MIME types and size threshold.  Because it sets {@code Content-Encoding}
+ * itself, Tomcat leaves the response alone.  It runs ahead of the security
+ * chain so that filters which capture bodies, such as idempotent replays,
+ * see and re-send the uncompressed form.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ZstdCompressionFilter extends OncePerRequestFilter {
+
+    @Value("${app.compression.zstd.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.compression.zstd.level:3}")
+    private int level;
+
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minResponseSize;
+
+    @Value("${server.compression.mime-types:application/json}")
+    private String[] mimeTypes;
+
+    private List<MediaType> compressibleTypes;
+
+    @Override
+    protected void initFilterBean() {
+        compressibleTypes = Arrays.stream(mimeTypes).map(String::trim).map(MediaType::parseMediaType).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !prefersZstd(request.getHeader(HttpHeaders.ACCEPT_ENCODING))
+                || "HEAD".equals(request.getMethod())
+                || isEventStream(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CompressingResponseWrapper wrapper = new CompressingResponseWrapper(
+                response, (int) minResponseSize.toBytes(), level, compressibleTypes);
+        chain.doFilter(request, wrapper);
+        wrapper.finish();
+    }
+
+    /**
+     * Whether the client accepts zstd at least as readily as gzip.  Clients
+     * that rank gzip higher keep getting gzip from the container.
+     */
+    static boolean prefersZstd(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double zstd = 0;
+        double gzip = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            double quality = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+            String coding = tokens[0].trim();
+            if (coding.equalsIgnoreCase(CompressingResponseWrapper.ZSTD)) {
+                zstd = quality;
+            } else if (coding.equalsIgnoreCase("gzip")) {
+                gzip = quality;
+            }
+        }
+        return zstd > 0 && zstd >= gzip;
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI().endsWith("/stream")
+                || (accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+}
@@ -0,0 +1,66 @@
+-- Soft deletion.  Employees are no longer deleted but terminated: status
+-- becomes 'TERMINATED' and termination_date is set.  The table is rebuilt
+-- list-partitioned by status, so a termination moves the row out of the
+-- small active partition into the archive, and active-only queries, which
+-- always carry "status = 'ACTIVE'", are pruned to the active partition.  The
+-- active partition keeps the hash-by-tenant layout of V8; the archive is one
+-- partition indexed by tenant and termination date, as it is only read when
+-- archived rows are asked for.
+--
+-- status joins the primary key because the partition key must be part of
+-- it.  That leaves no unique (tenant_id, id) for fk_employees_manager to
+-- reference, so the manager link is checked by EmployeeService instead, which
+-- also keeps the hierarchy closure in step.
+
+ALTER SEQUENCE employees_id_seq OWNED BY NONE;
+
+CREATE TABLE employees_by_status (
+    id               BIGINT       NOT NULL DEFAULT nextval('employees_id_seq'),
+    tenant_id        VARCHAR(64)  NOT NULL,
+    name             VARCHAR(255) NOT NULL,
+    position         VARCHAR(255) NOT NULL,
+    department       VARCHAR(255) NOT NULL
+        CHECK (department IN ('HR', 'ENGINEERING', 'SALES', 'MARKETING', 'FINANCE', 'IT', 'OTHER')),
+    hire_date        DATE         NOT NULL,
+    created_by       BIGINT REFERENCES users (id),
+    version          BIGINT       NOT NULL DEFAULT 0,
+    manager_id       BIGINT,
+    status           VARCHAR(16)  NOT NULL DEFAULT 'ACTIVE'
+        CHECK (status IN ('ACTIVE', 'TERMINATED')),
+    termination_date DATE,
+    CHECK ((status = 'TERMINATED') = (termination_date IS NOT NULL)),
+    PRIMARY KEY (tenant_id, id, status)
+) PARTITION BY LIST (status);
+
+CREATE TABLE employees_active PARTITION OF employees_by_status
+    FOR VALUES IN ('ACTIVE') PARTITION BY HASH (tenant_id);
+CREATE TABLE employees_active_p0 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE employees_active_p1 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE employees_active_p2 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE employees_active_p3 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE employees_active_p4 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE employees_active_p5 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE employees_active_p6 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE employees_active_p7 PARTITION OF employees_active FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+CREATE TABLE employees_archive PARTITION OF employees_by_status
+    FOR VALUES IN ('TERMINATED');
+
+INSERT INTO employees_by_status (id, tenant_id, name, position, department, hire_date, created_by, version, manager_id)
+SELECT id, tenant_id, name, position, department, hire_date, created_by, version, manager_id
+  FROM employees;
+
+DROP TABLE employees;
+ALTER TABLE employees_by_status RENAME TO employees;
+ALTER SEQUENCE employees_id_seq OWNED BY employees.id;
+
+-- Lookups by id alone, as issued for entity loads and updates, probe one
+-- small index per partition.
+CREATE INDEX idx_employees_id ON employees (id);
+CREATE INDEX idx_employees_created_by ON employees (tenant_id, created_by);
+CREATE INDEX idx_employees_department ON employees (tenant_id, department);
+CREATE INDEX idx_employees_hire_date ON employees (tenant_id, hire_date);
+CREATE INDEX idx_employees_manager_id ON employees (tenant_id, manager_id);
+
+CREATE INDEX idx_employees_archive_termination_date
+    ON employees_archive (tenant_id, termination_date);
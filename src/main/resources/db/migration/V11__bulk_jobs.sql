@@ -0,0 +1,43 @@
+-- Long-running bulk operations (imports, exports, department transfers).
+-- Jobs run on background workers in chunks; each chunk commits together
+-- with the job's checkpoint, so a job picked up again after a restart
+-- continues after its last committed chunk.  A worker holds a lease on the
+-- job that it renews with every chunk; a RUNNING job whose lease expired is
+-- claimed again by the next free worker.
+--
+-- tenant_id is a plain column: workers claim the jobs of every tenant.
+
+CREATE TABLE bulk_jobs (
+    id               UUID PRIMARY KEY,
+    tenant_id        VARCHAR(64)              NOT NULL,
+    job_type         VARCHAR(16)              NOT NULL
+        CHECK (job_type IN ('IMPORT', 'EXPORT', 'TRANSFER')),
+    status           VARCHAR(16)              NOT NULL
+        CHECK (status IN ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED')),
+    submitted_by     VARCHAR(255)             NOT NULL,
+    -- JSON input of the job
+    parameters       TEXT,
+    -- last key processed: an item position for imports, an employee id otherwise
+    checkpoint       BIGINT                   NOT NULL DEFAULT 0,
+    -- length of the export file up to the checkpoint
+    output_bytes     BIGINT                   NOT NULL DEFAULT 0,
+    total_rows       BIGINT,
+    processed_rows   BIGINT                   NOT NULL DEFAULT 0,
+    failed_rows      BIGINT                   NOT NULL DEFAULT 0,
+    -- time spent processing chunks, for throughput
+    active_millis    BIGINT                   NOT NULL DEFAULT 0,
+    cancel_requested BOOLEAN                  NOT NULL DEFAULT FALSE,
+    error            TEXT,
+    lease_owner      VARCHAR(64),
+    lease_expires_at TIMESTAMP WITH TIME ZONE,
+    attempts         INTEGER                  NOT NULL DEFAULT 0,
+    created_at       TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at       TIMESTAMP WITH TIME ZONE,
+    finished_at      TIMESTAMP WITH TIME ZONE
+);
+
+-- Workers look for queued jobs and expired leases; finished jobs drop out.
+CREATE INDEX idx_bulk_jobs_claimable ON bulk_jobs (created_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE INDEX idx_bulk_jobs_tenant ON bulk_jobs (tenant_id, created_at);
@@ -0,0 +1,12 @@
+-- Duplicate detection compares the names of active employees hired on the
+-- same day into the same department.  The scan walks hire dates in order
+-- and the import check looks up one (department, hire date) block; both
+-- are served by this index.  Terminated employees are never compared.
+CREATE INDEX idx_employees_duplicate_block ON employees (tenant_id, hire_date, department)
+    WHERE status = 'ACTIVE';
+
+-- Duplicate scans run as bulk jobs; their checkpoint is the last hire date
+-- scanned, as a shifted epoch day.
+ALTER TABLE bulk_jobs DROP CONSTRAINT bulk_jobs_job_type_check;
+ALTER TABLE bulk_jobs ADD CONSTRAINT bulk_jobs_job_type_check
+    CHECK (job_type IN ('IMPORT', 'EXPORT', 'TRANSFER', 'DUPLICATES'));
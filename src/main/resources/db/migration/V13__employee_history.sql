@@ -0,0 +1,57 @@
+-- Temporal history of employee records.  Every change to an employee
+-- appends the new state with the time range it is valid for,
+-- [valid_from, valid_to), and closes the range of the previous state; the
+-- current state is the row whose valid_to is NULL.  Rows are written by
+-- EmployeeHistoryRepository in the same transaction as the change and are
+-- never updated otherwise, so the table is append-only in effect.
+--
+-- The table is separate from employees, so reads of current data never
+-- touch it however long the history grows.
+--
+-- The exclusion constraint guarantees that an employee's ranges never
+-- overlap.  Its GiST index also answers "as of" lookups (tenant, employee
+-- and range containment) for one employee or a whole tenant.  It is
+-- deferred because a change closes the old range and opens the new one in
+-- a single statement.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE TABLE employee_history (
+    tenant_id        VARCHAR(64)              NOT NULL,
+    employee_id      BIGINT                   NOT NULL,
+    version          BIGINT                   NOT NULL,
+    name             VARCHAR(255)             NOT NULL,
+    position         VARCHAR(255)             NOT NULL,
+    department       VARCHAR(255)             NOT NULL,
+    hire_date        DATE                     NOT NULL,
+    manager_id       BIGINT,
+    status           VARCHAR(16)              NOT NULL,
+    termination_date DATE,
+    change_type      VARCHAR(16)              NOT NULL
+        CHECK (change_type IN ('CREATED', 'UPDATED', 'DELETED')),
+    changed_by       VARCHAR(255),
+    valid_from       TIMESTAMP WITH TIME ZONE NOT NULL,
+    valid_to         TIMESTAMP WITH TIME ZONE,
+    CHECK (valid_to IS NULL OR valid_to >= valid_from),
+    PRIMARY KEY (tenant_id, employee_id, version),
+    CONSTRAINT ex_employee_history_validity EXCLUDE USING gist (
+        tenant_id WITH =,
+        employee_id WITH =,
+        tstzrange(valid_from, valid_to) WITH &&
+    ) DEFERRABLE INITIALLY DEFERRED
+);
+
+-- Change listings for a whole tenant, by time.
+CREATE INDEX idx_employee_history_changes ON employee_history (tenant_id, valid_from);
+
+-- The open rows, which every change closes.
+CREATE INDEX idx_employee_history_current ON employee_history (tenant_id, employee_id)
+    WHERE valid_to IS NULL;
+
+-- Earlier states are unknown, so history starts with the current state of
+-- every employee as of this migration.
+INSERT INTO employee_history (tenant_id, employee_id, version, name, position, department, hire_date, manager_id,
+                              status, termination_date, change_type, valid_from)
+SELECT tenant_id, id, version, name, position, department, hire_date, manager_id,
+       status, termination_date, 'CREATED', now()
+  FROM employees;
@@ -0,0 +1,7 @@
+-- Refresh tokens carry the tenant of their user.  The refresh and logout
+-- endpoints are unauthenticated, so the tenant is taken from the token row
+-- rather than from the request.
+
+ALTER TABLE refresh_tokens ADD COLUMN tenant_id VARCHAR(64);
+UPDATE refresh_tokens t SET tenant_id = u.tenant_id FROM users u WHERE u.id = t.user_id;
+ALTER TABLE refresh_tokens ALTER COLUMN tenant_id SET NOT NULL;
@@ -0,0 +1,6 @@
+-- Processing lease for in-flight idempotency keys.  The instance running a
+-- request keeps extending locked_until; once it lapses, e.g. because that
+-- instance crashed, a retry may take the key over.  Rows claimed before this
+-- migration have no lease and can be taken over right away.
+
+ALTER TABLE idempotency_keys ADD COLUMN locked_until TIMESTAMP WITH TIME ZONE;
@@ -0,0 +1,16 @@
+-- Fencing for idempotency key leases.  Every claim writes a fresh
+-- owner_token, and completing, releasing or renewing a key only touches the
+-- row while it still carries the caller's token, so an owner whose lease
+-- lapsed and was taken over cannot overwrite or delete the new claim.
+--
+-- In-flight rows claimed before the lease existed get one now, the default
+-- app.idempotency.lease, rather than being taken over by the first retry
+-- while their request may still be running on an instance not yet upgraded.
+-- Rows without a lease are never taken over before they expire, which also
+-- covers keys claimed by such instances during the rollout.
+
+ALTER TABLE idempotency_keys ADD COLUMN owner_token VARCHAR(36);
+
+UPDATE idempotency_keys
+   SET locked_until = now() + INTERVAL '30 seconds'
+ WHERE response_status IS NULL AND locked_until IS NULL;
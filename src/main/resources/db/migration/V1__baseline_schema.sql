@@ -0,0 +1,23 @@
+-- Baseline schema for the Employee Management API.  It mirrors the tables
+-- Hibernate previously created through `ddl-auto: update`, so databases that
+-- already contain them are baselined at this version instead of migrated.
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role     VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE employees (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    position   VARCHAR(255) NOT NULL,
+    department VARCHAR(255) NOT NULL
+        CHECK (department IN ('HR', 'ENGINEERING', 'SALES', 'MARKETING', 'FINANCE', 'IT', 'OTHER')),
+    hire_date  DATE         NOT NULL,
+    created_by BIGINT REFERENCES users (id)
+);
@@ -0,0 +1,20 @@
+-- Indexes backing the repository queries.  Every statement is built
+-- CONCURRENTLY so the migration can run against a live database without
+-- blocking writes; Flyway executes such a script outside a transaction,
+-- which is why no transactional statement may be added to this file.
+
+-- Foreign key lookups ("employees created by user X") and cascading checks
+-- when a user row is deleted.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_created_by
+    ON employees (created_by);
+
+-- Listing and sorting by department or hire date.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_department
+    ON employees (department);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_hire_date
+    ON employees (hire_date);
+
+-- findByUsernameOrEmail needs no extra index: the unique constraints on
+-- users.username and users.email already give PostgreSQL one btree per
+-- branch, which it combines with a BitmapOr.
@@ -0,0 +1,20 @@
+-- Transactional outbox for employee change events.  The identity column
+-- provides the global sequence; the partial index keeps the relay's scan for
+-- unpublished events cheap no matter how many published rows are retained.
+
+CREATE TABLE outbox_events (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id  BIGINT                   NOT NULL,
+    event_type   VARCHAR(32)              NOT NULL,
+    payload      TEXT,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_outbox_events_unpublished
+    ON outbox_events (id)
+    WHERE published_at IS NULL;
+
+CREATE INDEX idx_outbox_events_published_at
+    ON outbox_events (published_at)
+    WHERE published_at IS NOT NULL;
@@ -0,0 +1,16 @@
+-- Append-only audit trail written in batches by the background audit writer.
+-- Rows arrive in roughly chronological order, so a BRIN index covers time
+-- range scans at a fraction of a btree's size and write cost.
+
+CREATE TABLE audit_log (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    action      VARCHAR(32)              NOT NULL,
+    actor       VARCHAR(255),
+    target      VARCHAR(255),
+    detail      VARCHAR(1024)
+);
+
+CREATE INDEX idx_audit_log_occurred_at ON audit_log USING BRIN (occurred_at);
+
+CREATE INDEX idx_audit_log_target ON audit_log (target, occurred_at);
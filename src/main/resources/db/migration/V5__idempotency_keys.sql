@@ -0,0 +1,14 @@
+-- Stored responses for requests sent with an Idempotency-Key header.  A row
+-- without response_status belongs to a request that is still running.
+
+CREATE TABLE idempotency_keys (
+    id              VARCHAR(320)             PRIMARY KEY,
+    request_hash    VARCHAR(64)              NOT NULL,
+    response_status INTEGER,
+    content_type    VARCHAR(255),
+    response_body   BYTEA,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,2 @@
+-- Optimistic locking version for employees.  Existing rows start at zero.
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
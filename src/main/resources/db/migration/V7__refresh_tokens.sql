@@ -0,0 +1,19 @@
+-- Rotating refresh tokens.  Only a SHA-256 hash of each token is stored.  All
+-- tokens descended from one login share a family; presenting a token that was
+-- already rotated revokes the whole family.
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT                   NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    family_id   UUID                     NOT NULL,
+    token_hash  VARCHAR(64)              NOT NULL,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    rotated_at  TIMESTAMP WITH TIME ZONE,
+    revoked_at  TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
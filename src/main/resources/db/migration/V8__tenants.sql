@@ -0,0 +1,65 @@
+-- Multi-tenancy.  Every existing row belongs to the 'default' tenant.
+--
+-- users: tenant column, with username and email unique per tenant.
+--
+-- employees: rebuilt as a table hash-partitioned by tenant, so that queries,
+-- which always carry the tenant predicate, touch a single partition.  The
+-- partition key must be part of the primary key, hence (tenant_id, id); ids
+-- stay globally unique because they come from one shared sequence.
+-- Identity columns are replaced by that sequence as partitions cannot share
+-- a parent's identity on every supported PostgreSQL version.
+
+ALTER TABLE users ADD COLUMN tenant_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE users ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE users DROP CONSTRAINT uk_users_username;
+ALTER TABLE users DROP CONSTRAINT uk_users_email;
+ALTER TABLE users ADD CONSTRAINT uk_users_tenant_username UNIQUE (tenant_id, username);
+ALTER TABLE users ADD CONSTRAINT uk_users_tenant_email UNIQUE (tenant_id, email);
+
+CREATE SEQUENCE employees_id_seq;
+SELECT setval('employees_id_seq', COALESCE((SELECT max(id) FROM employees), 0) + 1, false);
+
+CREATE TABLE employees_by_tenant (
+    id         BIGINT       NOT NULL DEFAULT nextval('employees_id_seq'),
+    tenant_id  VARCHAR(64)  NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    position   VARCHAR(255) NOT NULL,
+    department VARCHAR(255) NOT NULL
+        CHECK (department IN ('HR', 'ENGINEERING', 'SALES', 'MARKETING', 'FINANCE', 'IT', 'OTHER')),
+    hire_date  DATE         NOT NULL,
+    created_by BIGINT REFERENCES users (id),
+    version    BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (tenant_id, id)
+) PARTITION BY HASH (tenant_id);
+
+CREATE TABLE employees_p0 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE employees_p1 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE employees_p2 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE employees_p3 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE employees_p4 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE employees_p5 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE employees_p6 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE employees_p7 PARTITION OF employees_by_tenant FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+INSERT INTO employees_by_tenant (id, tenant_id, name, position, department, hire_date, created_by, version)
+SELECT id, 'default', name, position, department, hire_date, created_by, version
+  FROM employees;
+
+DROP TABLE employees;
+ALTER TABLE employees_by_tenant RENAME TO employees;
+ALTER SEQUENCE employees_id_seq OWNED BY employees.id;
+
+-- The V2 indexes, now leading with the tenant so each stays within one
+-- partition's slice of the data.
+CREATE INDEX idx_employees_created_by ON employees (tenant_id, created_by);
+CREATE INDEX idx_employees_department ON employees (tenant_id, department);
+CREATE INDEX idx_employees_hire_date ON employees (tenant_id, hire_date);
+
+-- Events and audit records carry the tenant of the change.
+ALTER TABLE outbox_events ADD COLUMN tenant_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE outbox_events ALTER COLUMN tenant_id DROP DEFAULT;
+
+ALTER TABLE audit_log ADD COLUMN tenant_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE audit_log ALTER COLUMN tenant_id DROP DEFAULT;
+DROP INDEX idx_audit_log_target;
+CREATE INDEX idx_audit_log_target ON audit_log (tenant_id, target, occurred_at);
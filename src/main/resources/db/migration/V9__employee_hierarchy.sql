@@ -0,0 +1,46 @@
+-- Reporting hierarchy.  employees.manager_id holds the direct manager;
+-- employee_hierarchy is its closure: one row per (ancestor, descendant) pair,
+-- including each employee paired with itself at depth 0.  Direct reports,
+-- whole subtrees and chains of command are then single index range scans
+-- instead of recursive queries.  The closure is maintained by
+-- EmployeeHierarchyRepository in the same transaction as manager changes.
+
+ALTER TABLE employees ADD COLUMN manager_id BIGINT;
+
+-- The tenant is part of the key, which also keeps a manager in the same
+-- tenant as their reports.
+ALTER TABLE employees
+    ADD CONSTRAINT fk_employees_manager
+    FOREIGN KEY (tenant_id, manager_id) REFERENCES employees (tenant_id, id);
+
+CREATE INDEX idx_employees_manager_id ON employees (tenant_id, manager_id);
+
+CREATE TABLE employee_hierarchy (
+    tenant_id     VARCHAR(64) NOT NULL,
+    ancestor_id   BIGINT      NOT NULL,
+    descendant_id BIGINT      NOT NULL,
+    depth         INTEGER     NOT NULL CHECK (depth >= 0),
+    PRIMARY KEY (tenant_id, ancestor_id, descendant_id)
+) PARTITION BY HASH (tenant_id);
+
+CREATE TABLE employee_hierarchy_p0 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE employee_hierarchy_p1 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE employee_hierarchy_p2 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE employee_hierarchy_p3 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE employee_hierarchy_p4 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE employee_hierarchy_p5 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE employee_hierarchy_p6 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE employee_hierarchy_p7 PARTITION OF employee_hierarchy FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+-- Subtree pages ordered by depth, then id.
+CREATE INDEX idx_employee_hierarchy_subtree
+    ON employee_hierarchy (tenant_id, ancestor_id, depth, descendant_id);
+
+-- Chain of command: all ancestors of one employee.
+CREATE INDEX idx_employee_hierarchy_chain
+    ON employee_hierarchy (tenant_id, descendant_id, depth);
+
+-- Nobody has a manager yet, so the closure is just the self rows.
+INSERT INTO employee_hierarchy (tenant_id, ancestor_id, descendant_id, depth)
+SELECT tenant_id, id, id, 0
+  FROM employees;
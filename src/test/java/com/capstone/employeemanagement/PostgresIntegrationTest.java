@@ -0,0 +1,65 @@
+package com.capstone.employeemanagement;
+
+import com.capstone.employeemanagement.model.Role;
+import com.capstone.employeemanagement.model.User;
+import com.capstone.employeemanagement.repository.UserRepository;
+import com.capstone.employeemanagement.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.UUID;
+
+/**
+ * Base for tests that run the application against a real PostgreSQL, with
+ * the schema built by the Flyway migrations, for code whose behaviour lives
+ * in native SQL.  One container is shared by all such tests; each test works
+ * in a tenant of its own, so tests neither see nor clean up each other's rows.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=aW50ZWdyYXRpb24tdGVzdC1zaWduaW5nLWtleS0wMTIzNDU2Nzg5",
+        "spring.jpa.show-sql=false"
+})
+public abstract class PostgresIntegrationTest {
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        // stopped by Testcontainers when the JVM exits, after every test class
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    protected String tenantId;
+    protected User creator;
+
+    @BeforeEach
+    void enterTenant() {
+        tenantId = "test-" + UUID.randomUUID().toString().substring(0, 8);
+        TenantContext.setTenantId(tenantId);
+        creator = userRepository.save(User.builder()
+                .username("creator")
+                .email("creator@example.com")
+                .password("{noop}unused")
+                .role(Role.ADMIN)
+                .build());
+    }
+
+    @AfterEach
+    void leaveTenant() {
+        TenantContext.clear();
+    }
+}
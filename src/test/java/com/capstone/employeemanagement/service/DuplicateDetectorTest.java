@@ -0,0 +1,197 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.model.Department;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DuplicateDetectorTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2024, 3, 1);
+
+    private DuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new DuplicateDetector(2);
+        ReflectionTestUtils.setField(detector, "threshold", 0.92);
+    }
+
+    @AfterEach
+    void tearDown() {
+        detector.shutdown();
+    }
+
+    @Test
+    void jaroWinklerMatchesReferenceValues() {
+        assertThat(jaroWinkler("martha", "marhta")).isCloseTo(0.961111, within(1e-6));
+        assertThat(jaroWinkler("dwayne", "duane")).isCloseTo(0.84, within(1e-6));
+        assertThat(jaroWinkler("dixon", "dicksonx")).isCloseTo(0.813333, within(1e-6));
+        assertThat(jaroWinkler("jon smith", "john smith")).isCloseTo(0.973333, within(1e-6));
+    }
+
+    @Test
+    void jaroWinklerHandlesEmptyAndDisjointNames() {
+        assertThat(jaroWinkler("", "")).isEqualTo(1);
+        assertThat(jaroWinkler("", "anna")).isZero();
+        assertThat(jaroWinkler("abc", "xyz")).isZero();
+        assertThat(jaroWinkler("anna", "anna")).isEqualTo(1);
+    }
+
+    @Test
+    void prefixBonusCoversAtMostFourCharacters() {
+        // identical first five characters earn the same bonus as four
+        double four = jaroWinkler("abcdxfgh", "abcdyfgh");
+        double five = jaroWinkler("abcdefgx", "abcdefgy");
+        double jaroFour = (7 / 8.0 + 7 / 8.0 + 1) / 3;
+        assertThat(four).isCloseTo(jaroFour + 0.4 * (1 - jaroFour), within(1e-12));
+        assertThat(five).isCloseTo(jaroFour + 0.4 * (1 - jaroFour), within(1e-12));
+    }
+
+    @Test
+    void normalizeStripsCaseAccentsAndPunctuation() {
+        assertThat(DuplicateDetector.normalize("  José  O'Brien-Smith ")).isEqualTo("jose o brien smith");
+        assertThat(DuplicateDetector.normalize("ÅSA, Ödegård")).isEqualTo("asa odegard");
+        assertThat(DuplicateDetector.normalize("...")).isEmpty();
+    }
+
+    @Test
+    void wordOrderDoesNotPreventAMatch() {
+        List<DuplicateDetector.Match> matches = detector.findMatches(candidate(0, "Smith, John"),
+                List.of(candidate(1, "john smith"), candidate(2, "Jane Doe")));
+
+        assertThat(matches).extracting(match -> match.kept().id()).containsExactly(1L);
+        assertThat(matches.get(0).score()).isEqualTo(1);
+    }
+
+    @Test
+    void lengthBoundKeepsPairsThatCanStillReachTheThreshold() {
+        // lengths 6 and 10: Jaro-Winkler can reach exactly 0.92, which is
+        // what the bound allows, so the pair must be scored and kept
+        List<DuplicateDetector.Match> matches = detector.findMatches(candidate(0, "abcdef"),
+                List.of(candidate(1, "abcdefghij")));
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).score()).isGreaterThanOrEqualTo(0.92);
+    }
+
+    @Test
+    void lengthBoundSkipsPairsThatCannotReachTheThreshold() {
+        // lengths 6 and 11 reach at most 0.909
+        assertThat(detector.findMatches(candidate(0, "abcdef"), List.of(candidate(1, "abcdefghijk")))).isEmpty();
+    }
+
+    @Test
+    void lengthBoundIsInclusiveAtTheThreshold() {
+        double best = jaroWinkler("abcdefghijk", "abcdef");
+        ReflectionTestUtils.setField(detector, "threshold", best);
+
+        assertThat(detector.findMatches(candidate(0, "abcdef"), List.of(candidate(1, "abcdefghijk")))).hasSize(1);
+    }
+
+    @Test
+    void lengthBoundNeverDropsAMatch() {
+        ReflectionTestUtils.setField(detector, "threshold", 0.8);
+        List<String> names = new ArrayList<>();
+        String base = "christopherson";
+        for (int length = 3; length <= base.length(); length++) {
+            names.add(base.substring(0, length));
+            names.add(base.substring(base.length() - length));
+        }
+        for (String a : names) {
+            for (String b : names) {
+                // findMatches scores the existing name against the incoming one
+                boolean reachesThreshold = jaroWinkler(b, a) >= 0.8;
+                boolean matched = !detector.findMatches(candidate(0, a), List.of(candidate(1, b))).isEmpty();
+                assertThat(matched).as("%s / %s", a, b).isEqualTo(reachesThreshold);
+            }
+        }
+    }
+
+    @Test
+    void onlyEmployeesOfTheSameBlockAreCompared() {
+        List<DuplicateDetector.Candidate> candidates = List.of(
+                new DuplicateDetector.Candidate(1, "John Smith", Department.SALES, HIRED),
+                new DuplicateDetector.Candidate(2, "John Smith", Department.HR, HIRED),
+                new DuplicateDetector.Candidate(3, "John Smith", Department.SALES, HIRED.plusDays(1)),
+                new DuplicateDetector.Candidate(4, "Jon Smith", Department.SALES, HIRED));
+
+        List<DuplicateDetector.Match> matches = detector.findDuplicates(candidates);
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).kept().id()).isEqualTo(1);
+        assertThat(matches.get(0).duplicate().id()).isEqualTo(4);
+    }
+
+    @Test
+    void slicingScoresEveryPairExactlyOnce() {
+        ReflectionTestUtils.setField(detector, "threshold", 0.7);
+        List<DuplicateDetector.Candidate> candidates = new ArrayList<>();
+        long id = 1;
+        // 91 rows make 4095 comparisons, one short of a slice; 92 make 4186
+        // and 200 span several slices; the small blocks are packed together
+        int[] blockSizes = {91, 92, 200, 2, 3, 1, 45};
+        for (int block = 0; block < blockSizes.length; block++) {
+            LocalDate hired = HIRED.plusDays(block);
+            for (int i = 0; i < blockSizes[block]; i++) {
+                candidates.add(new DuplicateDetector.Candidate(id++, name(i), Department.ENGINEERING, hired));
+            }
+        }
+
+        List<DuplicateDetector.Match> matches = detector.findDuplicates(candidates);
+
+        Set<List<Long>> expected = new HashSet<>();
+        for (DuplicateDetector.Candidate a : candidates) {
+            for (DuplicateDetector.Candidate b : candidates) {
+                if (a.id() < b.id() && a.hireDate().equals(b.hireDate())
+                        && !detector.findMatches(b, List.of(a)).isEmpty()) {
+                    expected.add(List.of(a.id(), b.id()));
+                }
+            }
+        }
+        List<List<Long>> found = matches.stream()
+                .map(match -> List.of(match.kept().id(), match.duplicate().id()))
+                .toList();
+        assertThat(expected).isNotEmpty();
+        assertThat(found).doesNotHaveDuplicates();
+        assertThat(new HashSet<>(found)).isEqualTo(expected);
+    }
+
+    @Test
+    void matchesAreOrderedByBlockAndIds() {
+        List<DuplicateDetector.Candidate> candidates = List.of(
+                new DuplicateDetector.Candidate(9, "Anna Berg", Department.SALES, HIRED.plusDays(1)),
+                new DuplicateDetector.Candidate(8, "Anna Berg", Department.SALES, HIRED.plusDays(1)),
+                new DuplicateDetector.Candidate(5, "Tom Lee", Department.SALES, HIRED),
+                new DuplicateDetector.Candidate(3, "Tom Lee", Department.SALES, HIRED));
+
+        List<DuplicateDetector.Match> matches = detector.findDuplicates(candidates);
+
+        assertThat(matches).extracting(match -> List.of(match.kept().id(), match.duplicate().id()))
+                .containsExactly(List.of(3L, 5L), List.of(8L, 9L));
+    }
+
+    private static String name(int i) {
+        String[] first = {"anna", "anne", "hanna", "jon", "john", "joan", "mark", "marc", "maria", "mario"};
+        String[] last = {"berg", "burg", "smith", "smyth", "lee", "li"};
+        return first[i % first.length] + ' ' + last[(i / first.length) % last.length];
+    }
+
+    private static DuplicateDetector.Candidate candidate(long id, String name) {
+        return new DuplicateDetector.Candidate(id, name, Department.SALES, HIRED);
+    }
+
+    private static double jaroWinkler(String a, String b) {
+        return DuplicateDetector.jaroWinkler(a.toCharArray(), b.toCharArray());
+    }
+}
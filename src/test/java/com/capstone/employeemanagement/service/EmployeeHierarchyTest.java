@@ -0,0 +1,190 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.PostgresIntegrationTest;
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.model.Department;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the closure-table statements of
+ * {@link com.capstone.employeemanagement.repository.EmployeeHierarchyRepository}
+ * through {@link EmployeeService} against the migrated schema.  After every
+ * change the closure is compared with the one derived from
+ * {@code employees.manager_id}, besides the depths each case is about.
+ */
+class EmployeeHierarchyTest extends PostgresIntegrationTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2020, 1, 6);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long ceo;
+    private long vp;
+    private long lead;
+    private long engineer;
+    private long cfo;
+
+    /**
+     * ceo > vp > lead > engineer, plus cfo as a second root.
+     */
+    @BeforeEach
+    void buildTree() {
+        ceo = create("Ceo", null);
+        vp = create("Vp", ceo);
+        lead = create("Lead", vp);
+        engineer = create("Engineer", lead);
+        cfo = create("Cfo", null);
+    }
+
+    @Test
+    void createLinksEveryAncestor() {
+        assertThat(depth(ceo, engineer)).isEqualTo(3);
+        assertThat(depth(vp, engineer)).isEqualTo(2);
+        assertThat(depth(lead, engineer)).isEqualTo(1);
+        assertThat(depth(engineer, engineer)).isZero();
+        assertThat(depth(cfo, engineer)).isNull();
+        assertClosureMatchesManagers();
+    }
+
+    @Test
+    void moveCarriesTheSubtree() {
+        move(vp, cfo);
+
+        assertThat(depth(cfo, vp)).isEqualTo(1);
+        assertThat(depth(cfo, lead)).isEqualTo(2);
+        assertThat(depth(cfo, engineer)).isEqualTo(3);
+        assertThat(depth(vp, engineer)).isEqualTo(2);
+        assertThat(depth(ceo, vp)).isNull();
+        assertThat(depth(ceo, engineer)).isNull();
+        assertClosureMatchesManagers();
+
+        // within the moved subtree, and back to the top
+        move(engineer, vp);
+        move(vp, null);
+        assertThat(depth(vp, engineer)).isEqualTo(1);
+        assertThat(depth(cfo, vp)).isNull();
+        assertThat(depth(cfo, engineer)).isNull();
+        assertClosureMatchesManagers();
+    }
+
+    @Test
+    void moveBelowOwnSubtreeIsRejected() {
+        Map<List<Long>, Integer> before = closure();
+
+        assertThatThrownBy(() -> move(vp, engineer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot report to themselves");
+        assertThatThrownBy(() -> move(vp, vp))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(closure()).isEqualTo(before);
+        assertThat(managerOf(vp)).isEqualTo(ceo);
+    }
+
+    @Test
+    void terminationMovesReportsUp() {
+        employeeService.deleteEmployee(vp, HIRED);
+
+        assertThat(managerOf(lead)).isEqualTo(ceo);
+        assertThat(depth(ceo, lead)).isEqualTo(1);
+        assertThat(depth(ceo, engineer)).isEqualTo(2);
+        assertThat(depth(lead, engineer)).isEqualTo(1);
+        assertThat(rowsOf(vp)).isZero();
+        assertClosureMatchesManagers();
+
+        // a root leaving makes its reports roots
+        employeeService.deleteEmployee(ceo, HIRED);
+
+        assertThat(managerOf(lead)).isNull();
+        assertThat(depth(lead, engineer)).isEqualTo(1);
+        assertThat(rowsOf(ceo)).isZero();
+        assertClosureMatchesManagers();
+
+        // a leaf leaving touches nobody else
+        employeeService.deleteEmployee(engineer, HIRED);
+
+        assertThat(rowsOf(engineer)).isZero();
+        assertThat(depth(lead, lead)).isZero();
+        assertClosureMatchesManagers();
+    }
+
+    private long create(String name, Long managerId) {
+        return employeeService.createEmployee(request(name, managerId), creator.getUsername()).getId();
+    }
+
+    private void move(long id, Long managerId) {
+        String name = jdbcTemplate.queryForObject(
+                "select name from employees where tenant_id = ? and id = ?", String.class, tenantId, id);
+        employeeService.updateEmployee(id, request(name, managerId));
+    }
+
+    private static EmployeeRequest request(String name, Long managerId) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName(name);
+        request.setPosition("Staff");
+        request.setDepartment(Department.ENGINEERING);
+        request.setHireDate(HIRED);
+        request.setManagerId(managerId);
+        return request;
+    }
+
+    private Long managerOf(long id) {
+        return jdbcTemplate.queryForObject(
+                "select manager_id from employees where tenant_id = ? and id = ?", Long.class, tenantId, id);
+    }
+
+    private Integer depth(long ancestorId, long descendantId) {
+        return closure().get(List.of(ancestorId, descendantId));
+    }
+
+    private int rowsOf(long id) {
+        return jdbcTemplate.queryForObject("""
+                select count(*) from employee_hierarchy
+                 where tenant_id = ? and (ancestor_id = ? or descendant_id = ?)
+                """, Integer.class, tenantId, id, id);
+    }
+
+    private Map<List<Long>, Integer> closure() {
+        Map<List<Long>, Integer> closure = new HashMap<>();
+        jdbcTemplate.query("select ancestor_id, descendant_id, depth from employee_hierarchy where tenant_id = ?",
+                rs -> {
+                    closure.put(List.of(rs.getLong(1), rs.getLong(2)), rs.getInt(3));
+                }, tenantId);
+        return closure;
+    }
+
+    /**
+     * Walks up {@code manager_id} from every active employee and checks the
+     * closure table holds exactly the pairs and depths found on the way.
+     */
+    private void assertClosureMatchesManagers() {
+        Map<Long, Long> managers = new HashMap<>();
+        jdbcTemplate.query("select id, manager_id from employees where tenant_id = ? and status = 'ACTIVE'",
+                rs -> {
+                    managers.put(rs.getLong(1), (Long) rs.getObject(2));
+                }, tenantId);
+        Map<List<Long>, Integer> expected = new HashMap<>();
+        managers.keySet().forEach(id -> {
+            int depth = 0;
+            for (Long ancestor = id; ancestor != null; ancestor = managers.get(ancestor)) {
+                expected.put(List.of(ancestor, id), depth++);
+            }
+        });
+        assertThat(closure()).isEqualTo(expected);
+    }
+}
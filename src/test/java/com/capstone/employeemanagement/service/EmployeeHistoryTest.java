@@ -0,0 +1,134 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.PostgresIntegrationTest;
+import com.capstone.employeemanagement.dto.EmployeeHistoryResponse;
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.exception.EmployeeNotFoundException;
+import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.model.EmployeeEventType;
+import com.capstone.employeemanagement.model.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the history statements of
+ * {@link com.capstone.employeemanagement.repository.EmployeeHistoryRepository}
+ * against the migrated schema: recording versions through
+ * {@link EmployeeService}, the exclusion constraint on validity ranges and
+ * the range-containment "as of" reads at the edges of each range.
+ */
+class EmployeeHistoryTest extends PostgresIntegrationTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2020, 1, 6);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeHistoryService historyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsEachVersionOnceWithAdjacentRanges() {
+        long id = employeeService.createEmployee(request("Engineer"), creator.getUsername()).getId();
+        employeeService.updateEmployee(id, request("Senior Engineer"));
+        // nothing changes, so the version is not bumped and nothing is recorded
+        employeeService.updateEmployee(id, request("Senior Engineer"));
+        employeeService.deleteEmployee(id, HIRED);
+
+        List<EmployeeHistoryResponse> history = historyService.getHistory(id, null, null);
+        assertThat(history).extracting(EmployeeHistoryResponse::getChangeType)
+                .containsExactly(EmployeeEventType.CREATED, EmployeeEventType.UPDATED, EmployeeEventType.DELETED);
+        assertThat(history).extracting(EmployeeHistoryResponse::getPosition)
+                .containsExactly("Engineer", "Senior Engineer", "Senior Engineer");
+        assertThat(history.get(2).getStatus()).isEqualTo(EmployeeStatus.TERMINATED);
+        assertThat(history.get(2).getTerminationDate()).isEqualTo(HIRED);
+
+        EmployeeHistoryResponse created = history.get(0);
+        EmployeeHistoryResponse updated = history.get(1);
+        EmployeeHistoryResponse terminated = history.get(2);
+        assertThat(created.getValidTo()).isEqualTo(updated.getValidFrom());
+        assertThat(updated.getValidTo()).isEqualTo(terminated.getValidFrom());
+        assertThat(terminated.getValidTo()).isNull();
+        assertThat(created.getValidFrom()).isBefore(updated.getValidFrom());
+        assertThat(updated.getValidFrom()).isBefore(terminated.getValidFrom());
+    }
+
+    @Test
+    void asOfReadsAtRangeBoundaries() {
+        long id = employeeService.createEmployee(request("Engineer"), creator.getUsername()).getId();
+        employeeService.updateEmployee(id, request("Senior Engineer"));
+        employeeService.deleteEmployee(id, HIRED);
+        List<EmployeeHistoryResponse> history = historyService.getHistory(id, null, null);
+        Instant createdAt = history.get(0).getValidFrom();
+        Instant updatedAt = history.get(1).getValidFrom();
+        Instant terminatedAt = history.get(2).getValidFrom();
+
+        // ranges include their start and exclude their end
+        assertThatThrownBy(() -> historyService.getAsOf(id, createdAt.minusNanos(1000)))
+                .isInstanceOf(EmployeeNotFoundException.class);
+        assertThat(historyService.getAsOf(id, createdAt).getPosition()).isEqualTo("Engineer");
+        assertThat(historyService.getAsOf(id, updatedAt.minusNanos(1000)).getPosition()).isEqualTo("Engineer");
+        assertThat(historyService.getAsOf(id, updatedAt).getPosition()).isEqualTo("Senior Engineer");
+        assertThat(historyService.getAsOf(id, terminatedAt.minusNanos(1000)).getStatus())
+                .isEqualTo(EmployeeStatus.ACTIVE);
+        assertThat(historyService.getAsOf(id, terminatedAt).getStatus()).isEqualTo(EmployeeStatus.TERMINATED);
+        assertThat(historyService.getAsOf(id, Instant.now().plusSeconds(3600)).getStatus())
+                .isEqualTo(EmployeeStatus.TERMINATED);
+
+        assertThat(directoryAsOf(createdAt.minusNanos(1000))).isEmpty();
+        assertThat(directoryAsOf(createdAt)).containsExactly("Engineer");
+        assertThat(directoryAsOf(updatedAt)).containsExactly("Senior Engineer");
+        assertThat(directoryAsOf(terminatedAt.minusNanos(1000))).containsExactly("Senior Engineer");
+        assertThat(directoryAsOf(terminatedAt)).isEmpty();
+    }
+
+    @Test
+    void overlappingRangesAreRejected() {
+        long id = employeeService.createEmployee(request("Engineer"), creator.getUsername()).getId();
+        Instant createdAt = historyService.getHistory(id, null, null).get(0).getValidFrom();
+
+        // a second open row for the same employee; the deferred check fires
+        // when the statement's implicit transaction commits
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+                insert into employee_history (tenant_id, employee_id, version, name, position, department,
+                                              hire_date, status, change_type, valid_from)
+                select tenant_id, employee_id, version + 1, name, position, department,
+                       hire_date, status, 'UPDATED', ?
+                  from employee_history
+                 where tenant_id = ? and employee_id = ?
+                """, Timestamp.from(createdAt.plusSeconds(1)), tenantId, id))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("ex_employee_history_validity");
+
+        assertThat(historyService.getHistory(id, null, null)).hasSize(1);
+    }
+
+    private List<String> directoryAsOf(Instant at) {
+        return historyService.getDirectoryAsOf(at, PageRequest.of(0, 10)).getContent().stream()
+                .map(EmployeeHistoryResponse::getPosition)
+                .toList();
+    }
+
+    private static EmployeeRequest request(String position) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("Alice Johnson");
+        request.setPosition(position);
+        request.setDepartment(Department.ENGINEERING);
+        request.setHireDate(HIRED);
+        return request;
+    }
+}
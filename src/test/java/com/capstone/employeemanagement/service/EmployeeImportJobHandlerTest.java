@@ -0,0 +1,123 @@
+package com.capstone.employeemanagement.service;
+
+import com.capstone.employeemanagement.dto.EmployeeRequest;
+import com.capstone.employeemanagement.model.BulkJob;
+import com.capstone.employeemanagement.model.Department;
+import com.capstone.employeemanagement.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportJobHandlerTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2024, 3, 1);
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final DuplicateDetector duplicateDetector = new DuplicateDetector(1);
+    private EmployeeImportJobHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(duplicateDetector, "threshold", 0.92);
+        handler = new EmployeeImportJobHandler(employeeService, objectMapper, validator, employeeRepository,
+                duplicateDetector);
+        ReflectionTestUtils.setField(handler, "maxImportRows", 100);
+        ReflectionTestUtils.setField(handler, "rejectDuplicates", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        duplicateDetector.shutdown();
+    }
+
+    @Test
+    void rejectsALikelyDuplicateOfAnActiveEmployee() throws Exception {
+        when(employeeRepository.findDuplicateBlock(Department.SALES, HIRED))
+                .thenReturn(rows(new Object[]{7L, "John Smith", Department.SALES, HIRED}));
+        BulkJobHandler.Session session = handler.open(job(request("Smith, Jon")));
+
+        assertThatThrownBy(() -> session.process(List.of(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Item 1: likely duplicate of employee 7 (John Smith");
+        verify(employeeService, never()).createEmployee(any(), anyString());
+    }
+
+    @Test
+    void createsAnEmployeeWithADistinctName() throws Exception {
+        when(employeeRepository.findDuplicateBlock(Department.SALES, HIRED))
+                .thenReturn(rows(new Object[]{7L, "John Smith", Department.SALES, HIRED}));
+        EmployeeRequest request = request("Maria Lopez");
+        BulkJobHandler.Session session = handler.open(job(request));
+
+        assertThatCode(() -> session.process(List.of(1L))).doesNotThrowAnyException();
+        verify(employeeService).createEmployee(eq(request), eq("importer"));
+    }
+
+    @Test
+    void createsDuplicatesWhenRejectionIsOff() throws Exception {
+        ReflectionTestUtils.setField(handler, "rejectDuplicates", false);
+        EmployeeRequest request = request("John Smith");
+        BulkJobHandler.Session session = handler.open(job(request));
+
+        session.process(List.of(1L));
+
+        verify(employeeService).createEmployee(eq(request), eq("importer"));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void reportsValidationErrorsBeforeLookingForDuplicates() throws Exception {
+        EmployeeRequest request = request("John Smith");
+        request.setPosition(" ");
+        BulkJobHandler.Session session = handler.open(job(request));
+
+        assertThatThrownBy(() -> session.process(List.of(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Item 1: Position is required");
+        verifyNoInteractions(employeeRepository, employeeService);
+    }
+
+    private static EmployeeRequest request(String name) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName(name);
+        request.setPosition("Account Manager");
+        request.setDepartment(Department.SALES);
+        request.setHireDate(HIRED);
+        return request;
+    }
+
+    private BulkJob job(EmployeeRequest... items) throws Exception {
+        return BulkJob.builder()
+                .id(UUID.randomUUID())
+                .submittedBy("importer")
+                .parameters(objectMapper.writeValueAsString(List.of(items)))
+                .build();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}